@@ -2,6 +2,8 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    // processAot 태스크 제공 (JVM 에서 -Dspring.aot.enabled=true 로 AOT 처리된 컨텍스트 사용)
+    alias(libs.plugins.graalvm.native)
     id("jacoco")
 }
 
@@ -23,6 +25,7 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -48,5 +51,76 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("allocation")
+    }
+}
+// allocation budget tasks (bytes per PointService operation, fails the build when exceeded)
+val allocationTest by tasks.registering(Test::class) {
+    description = "Runs the PointService allocation-budget tests."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    ignoreFailures = false
+    useJUnitPlatform {
+        includeTags("allocation")
+    }
+    systemProperty("allocation.budget.charge", "96")
+    systemProperty("allocation.budget.use", "96")
+    systemProperty("allocation.budget.point", "8")
+    systemProperty("allocation.budget.rejected", "64")
+}
+tasks.check {
+    dependsOn(allocationTest)
+}
+
+// fast-start tasks (AOT-processed context + AppCDS archive, see scripts/startup-benchmark.sh)
+val fastStartJvmArgs = listOf("-Dspring.aot.enabled=true", "-Dspring.profiles.active=faststart")
+val cdsDir = layout.buildDirectory.dir("cds")
+// CDS 는 jar 의 클래스만 아카이브하며, 클래스패스에 비어있지 않은 디렉터리가 있으면 JVM 이 아카이브 생성을 거부합니다.
+// 그래서 main/AOT 클래스와 리소스를 하나의 jar 로 묶고, 의존성은 jar 파일만 사용합니다.
+val fastStartJar by tasks.registering(Jar::class) {
+    description = "Packages main and AOT-generated classes into a plain jar for the AppCDS classpath."
+    group = "build"
+    destinationDirectory.set(cdsDir)
+    archiveFileName.set("app.jar")
+    duplicatesStrategy = DuplicatesStrategy.EXCLUDE
+    from(sourceSets["aot"].output, sourceSets["main"].output)
+}
+val fastStartClasspath = files(fastStartJar) + sourceSets["aot"].runtimeClasspath.filter { it.isFile }
+// CDS 아카이브는 생성 시와 동일한 클래스패스로 실행해야 사용되므로, 벤치마크 스크립트가 두 모드 모두 이 클래스패스로 실행합니다.
+val fastStartClasspathFile by tasks.registering {
+    description = "Writes the fast-start classpath used by cdsArchive and scripts/startup-benchmark.sh."
+    group = "build"
+    val classpathFile = cdsDir.map { it.file("classpath.txt") }
+    inputs.files(fastStartClasspath)
+    outputs.file(classpathFile)
+    doLast {
+        classpathFile.get().asFile.writeText(fastStartClasspath.asPath)
+    }
+}
+val cdsArchive by tasks.registering(JavaExec::class) {
+    description = "Starts the application once with the fast-start profile, runs the warm-up requests and dumps an AppCDS archive on exit."
+    group = "build"
+    dependsOn(fastStartClasspathFile)
+    mainClass.set("io.hhplus.tdd.TddApplication")
+    classpath = fastStartClasspath
+    jvmArgs(fastStartJvmArgs)
+    // onRefresh 에서 종료하면 요청 경로(Tomcat 요청 처리, 메시지 컨버터, 예외 응답 등) 클래스가 로딩되지 않아 아카이브에 빠지므로,
+    // 실제로 기동해 예열 요청(PointWarmupRunner)까지 처리한 뒤 종료합니다.
+    jvmArgs(
+        "-XX:ArchiveClassesAtExit=${cdsDir.get().file("app.jsa").asFile}",
+        "-Dpoint.warmup.exit=true",
+        "-Dserver.port=0"
+    )
+    outputs.file(cdsDir.map { it.file("app.jsa") })
+}
+val bootRunFastStart by tasks.registering(JavaExec::class) {
+    description = "Runs the application with the fast-start profile, AOT context and AppCDS archive."
+    group = "application"
+    dependsOn(cdsArchive)
+    mainClass.set("io.hhplus.tdd.TddApplication")
+    classpath = fastStartClasspath
+    jvmArgs(fastStartJvmArgs)
+    jvmArgs("-XX:SharedArchiveFile=${cdsDir.get().file("app.jsa").asFile}")
 }
@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+# 기동 시작부터 첫 GET /point/{id} 성공 응답, readiness(ACCEPTING_TRAFFIC) 까지의 시간을 반복 측정합니다.
+# - Tomcat 은 ApplicationRunner(예열) 실행 중에도 요청을 받으므로, 첫 GET 은 예열 도중에 성공할 수 있습니다.
+#   트래픽을 받아도 되는 시점은 readiness 기준으로 봅니다.
+# - 두 모드 모두 같은 클래스패스(build/cds/classpath.txt)와 main 클래스로 실행하고,
+#   faststart 모드만 AppCDS 아카이브, AOT 컨텍스트, faststart 프로파일을 추가합니다.
+#
+# 사용법:
+#   ./gradlew cdsArchive
+#   scripts/startup-benchmark.sh default   [runs]
+#   scripts/startup-benchmark.sh faststart [runs]
+set -euo pipefail
+
+MODE="${1:-default}"
+RUNS="${2:-5}"
+PORT="${PORT:-18080}"
+URL="http://localhost:${PORT}/point/1"
+READY_URL="http://localhost:${PORT}/actuator/health/readiness"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+CDS_DIR="$ROOT/build/cds"
+
+# 아카이브가 없으면 JVM 은 경고만 남기고 CDS 없이 기동하므로, 측정 전에 확인합니다.
+if [[ ! -f "$CDS_DIR/app.jsa" || ! -f "$CDS_DIR/classpath.txt" ]]; then
+  echo "missing AppCDS archive or classpath: run ./gradlew cdsArchive first" >&2
+  exit 1
+fi
+
+case "$MODE" in
+  default)
+    JVM_OPTS=()
+    ;;
+  faststart)
+    JVM_OPTS=(-XX:SharedArchiveFile="$CDS_DIR/app.jsa" -Dspring.aot.enabled=true -Dspring.profiles.active=faststart)
+    ;;
+  *)
+    echo "unknown mode: $MODE (default | faststart)" >&2
+    exit 1
+    ;;
+esac
+CMD=(java ${JVM_OPTS[@]+"${JVM_OPTS[@]}"} -cp "$(cat "$CDS_DIR/classpath.txt")" io.hhplus.tdd.TddApplication)
+
+now_millis() {
+  date +%s%3N
+}
+
+total_first=0
+total_ready=0
+for run in $(seq 1 "$RUNS"); do
+  started=$(now_millis)
+  "${CMD[@]}" --server.port="$PORT" > /dev/null 2>&1 &
+  pid=$!
+
+  first=""
+  ready=""
+  while [[ -z "$first" || -z "$ready" ]]; do
+    if [[ -z "$first" ]] && curl -sf -o /dev/null "$URL"; then
+      first=$(( $(now_millis) - started ))
+    fi
+    if [[ -z "$ready" ]] && curl -sf -o /dev/null "$READY_URL"; then
+      ready=$(( $(now_millis) - started ))
+    fi
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "application exited before becoming ready" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+
+  echo "run ${run}: first GET ${first}ms, ready ${ready}ms"
+  total_first=$(( total_first + first ))
+  total_ready=$(( total_ready + ready ))
+done
+
+echo "${MODE}: average time to first GET /point/1 = $(( total_first / RUNS ))ms, to readiness = $(( total_ready / RUNS ))ms over ${RUNS} runs"
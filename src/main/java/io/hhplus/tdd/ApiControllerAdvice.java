@@ -1,14 +1,29 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.exception.PointException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+/**
+ * 에러 응답은 요청의 Accept(예: application/x-point-binary)와 관계없이 JSON 으로 응답합니다.
+ * - Content-Type 을 지정하지 않으면 ErrorResponse 를 쓸 수 없는 Accept 에서 HttpMediaTypeNotAcceptableException 이 발생해 500 으로 응답됩니다.
+ */
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = PointException.class)
+    public ResponseEntity<ErrorResponse> handlePointException(PointException e) {
+        return ResponseEntity.status(e.code().status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponse(e.code().name(), e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
-        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+        return ResponseEntity.status(500)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponse("500", "에러가 발생했습니다."));
     }
 }
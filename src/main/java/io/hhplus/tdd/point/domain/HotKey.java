@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.domain;
+
+/**
+ * 락 경합이 잦은 유저
+ * - contentions : 최근 구간의 경합 횟수 추정치 (count-min sketch)
+ * - hot : 일괄 처리(batch) 전략 적용 여부
+ */
+public record HotKey(
+        long userId,
+        long contentions,
+        boolean hot
+) {
+}
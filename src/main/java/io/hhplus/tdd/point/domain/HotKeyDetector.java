@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 경합이 잦은 유저(hot key) 탐지
+ * - 락을 바로 얻지 못한 경우만 count-min sketch 에 기록하므로, 경합이 없는 요청에는 비용이 없습니다.
+ * - 추정치가 상위 topK 안에 드는 유저만 후보로 관리하고, hotThreshold 이상이면 hot 으로 전환합니다.
+ * - window 마다 카운터를 절반으로 줄이며, hot 유저는 hotThreshold / 2 아래로 내려가면 다시 일반 처리로 돌아갑니다.
+ */
+public class HotKeyDetector {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 1 << 12;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final int topK;
+    private final long hotThreshold;
+    private final long windowNanos;
+
+    private final AtomicLongArray counters = new AtomicLongArray(DEPTH * WIDTH);
+    private final Map<Long, Long> candidates = new ConcurrentHashMap<>();
+    private final AtomicLong windowStarted = new AtomicLong(System.nanoTime());
+
+    // 정렬된 hot 유저 ID 스냅샷 (조회 시 박싱/할당 없이 이진 탐색)
+    private volatile long[] hotIds = new long[0];
+
+    public HotKeyDetector(int topK, long hotThreshold, long windowMillis) {
+        this.topK = topK;
+        this.hotThreshold = hotThreshold;
+        this.windowNanos = windowMillis * 1_000_000L;
+    }
+
+    /**
+     * 락 경합 1회 기록
+     * @param id
+     */
+    public void recordContention(long id) {
+        decayIfExpired();
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, id)));
+        }
+
+        if (estimate >= hotThreshold / 2) {
+            updateCandidate(id, estimate);
+        }
+    }
+
+    public boolean isHot(long id) {
+        final long[] snapshot = hotIds;
+        if (snapshot.length == 0) {
+            return false;
+        }
+        decayIfExpired();
+        return Arrays.binarySearch(hotIds, id) >= 0;
+    }
+
+    /**
+     * 후보 유저 목록 (경합 추정치 내림차순)
+     */
+    public List<HotKey> hotKeys() {
+        return candidates.entrySet().stream()
+                .map(candidate -> new HotKey(candidate.getKey(), candidate.getValue(), isHot(candidate.getKey())))
+                .sorted(Comparator.comparingLong(HotKey::contentions).reversed())
+                .toList();
+    }
+
+    private synchronized void updateCandidate(long id, long estimate) {
+        candidates.put(id, estimate);
+        if (candidates.size() > topK) {
+            candidates.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .ifPresent(coldest -> candidates.remove(coldest.getKey()));
+        }
+        if (estimate >= hotThreshold && Arrays.binarySearch(hotIds, id) < 0) {
+            refreshHotIds();
+        }
+    }
+
+    private void decayIfExpired() {
+        final long started = windowStarted.get();
+        final long elapsed = System.nanoTime() - started;
+        if (elapsed < windowNanos || !windowStarted.compareAndSet(started, started + elapsed)) {
+            return;
+        }
+        decay((int) Math.min(63, elapsed / windowNanos));
+    }
+
+    private synchronized void decay(int shift) {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, counters.get(i) >>> shift);
+        }
+        candidates.replaceAll((id, estimate) -> estimate(id));
+        candidates.values().removeIf(estimate -> estimate < hotThreshold / 2);
+        refreshHotIds();
+    }
+
+    private void refreshHotIds() {
+        final long[] current = hotIds;
+        hotIds = candidates.entrySet().stream()
+                .filter(candidate -> candidate.getValue()
+                        >= (Arrays.binarySearch(current, candidate.getKey()) >= 0 ? hotThreshold / 2 : hotThreshold))
+                .mapToLong(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+    }
+
+    private long estimate(long id) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, id)));
+        }
+        return estimate;
+    }
+
+    private static int index(int row, long id) {
+        final long hash = (id ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        return row * WIDTH + (int) ((hash ^ (hash >>> 31)) & (WIDTH - 1));
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.domain;
+
+/**
+ * 유저 잔액과 포인트 내역 합계(CHARGE - USE)의 불일치
+ * - expectedPoint : 내역으로 계산한 잔액
+ * - actualPoint : 저장된 잔액
+ */
+public record PointDrift(
+        long userId,
+        long expectedPoint,
+        long actualPoint
+) {
+}
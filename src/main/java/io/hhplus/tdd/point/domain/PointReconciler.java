@@ -0,0 +1,192 @@
+package io.hhplus.tdd.point.domain;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 유저 잔액과 포인트 내역의 정합성 검사
+ * - 전체 내역을 청크 단위 fork-join 으로 한 번만 훑어 유저별 합계(CHARGE - USE)를 구합니다.
+ * - 잔액은 저장소의 잔액 목록(streamPoints)에서 한 번에 읽고, 유저마다 테이블을 조회하지 않습니다.
+ * - 불일치로 보이는 유저(스냅샷 이후의 요청 포함)만 해당 유저의 락을 잠깐 잡고 테이블에서 다시 확인합니다.
+ * - 지연 초기화(faststart 프로파일)에서도 정기 검사가 등록되도록 즉시 생성합니다.
+ * - 전용 ForkJoinPool 은 컨텍스트 종료 시(AutoCloseable) 함께 종료합니다.
+ */
+@Lazy(false)
+@Service
+public class PointReconciler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointReconciler.class);
+
+    private static final int CHUNK_SIZE = 4_096;
+
+    private final PointRepository pointRepository;
+    private final PointService pointService;
+    private final ForkJoinPool pool;
+
+    public PointReconciler(
+            PointRepository pointRepository,
+            PointService pointService,
+            @Value("${point.reconciliation.parallelism:0}") int parallelism
+    ) {
+        this.pointRepository = pointRepository;
+        this.pointService = pointService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Scheduled(cron = "${point.reconciliation.cron:-}")
+    public void scheduledReconcile() {
+        final ReconciliationReport report = reconcile(false);
+        log.info("point reconciliation: histories={}, users={}, drifts={}, elapsed={}ms",
+                report.scannedHistories(), report.checkedUsers(), report.drifts().size(), report.elapsedMillis());
+    }
+
+    /**
+     * 잔액 정합성 검사
+     * @param rebuild true 이면 불일치 잔액을 내역 합계로 다시 기록합니다.
+     * @return
+     */
+    public ReconciliationReport reconcile(boolean rebuild) {
+        final long started = System.currentTimeMillis();
+        final List<PointHistory> histories = pointRepository.getHistories(Long.MIN_VALUE, Long.MAX_VALUE);
+        final Map<Long, long[]> sums = pool.invoke(new SumTask(histories, 0, histories.size()));
+
+        // 잔액은 유저마다 테이블을 조회(throttle)하지 않고 저장소에서 한 번에 읽습니다. (없는 유저는 0)
+        final Map<Long, Long> balances = pointRepository.streamPoints()
+                .collect(Collectors.toMap(UserPoint::id, UserPoint::point));
+        final Set<Long> userIds = new HashSet<>(sums.keySet());
+        userIds.addAll(balances.keySet());
+        final List<Long> driftedIds = userIds.stream()
+                .filter(id -> balances.getOrDefault(id, 0L) != sum(sums, id))
+                .toList();
+
+        // 불일치로 보이는 유저만 락을 잡고 다시 확인하며, 테이블 조회로 막히는 동안 풀이 워커를 보충하도록 합니다.
+        final List<PointDrift> drifts = pool.submit(() -> driftedIds.parallelStream()
+                .map(id -> verifyBalance(id, rebuild))
+                .filter(Objects::nonNull)
+                .toList()
+        ).join();
+
+        return new ReconciliationReport(histories.size(), userIds.size(), drifts, rebuild && !drifts.isEmpty(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 전용 ForkJoinPool 종료 (진행 중인 검사는 마친 뒤 워커 스레드가 종료됩니다.)
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return pool.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * 내역 구간 [from, to) 의 유저별 합계를 구하고, 하위 구간 결과를 병합합니다.
+     */
+    private static class SumTask extends RecursiveTask<Map<Long, long[]>> {
+
+        private final List<PointHistory> histories;
+        private final int from;
+        private final int to;
+
+        SumTask(List<PointHistory> histories, int from, int to) {
+            this.histories = histories;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, long[]> compute() {
+            if (to - from <= CHUNK_SIZE) {
+                final Map<Long, long[]> sums = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    final PointHistory history = histories.get(i);
+                    sums.computeIfAbsent(history.userId(), userId -> new long[1])[0] += signedAmount(history);
+                }
+                return sums;
+            }
+
+            final int middle = (from + to) >>> 1;
+            final SumTask left = new SumTask(histories, from, middle);
+            left.fork();
+            final Map<Long, long[]> right = new SumTask(histories, middle, to).compute();
+            return merge(left.join(), right);
+        }
+
+        private static Map<Long, long[]> merge(Map<Long, long[]> left, Map<Long, long[]> right) {
+            final Map<Long, long[]> larger = left.size() >= right.size() ? left : right;
+            final Map<Long, long[]> smaller = larger == left ? right : left;
+            smaller.forEach((userId, sum) -> larger.merge(userId, sum, (a, b) -> {
+                a[0] += b[0];
+                return a;
+            }));
+            return larger;
+        }
+    }
+
+    private PointDrift verifyBalance(long id, boolean rebuild) {
+        final VerifyBalanceBlocker blocker = new VerifyBalanceBlocker(id, rebuild);
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Point reconciliation interrupted. id: " + id);
+        }
+        return blocker.drift;
+    }
+
+    private static long sum(Map<Long, long[]> sums, long id) {
+        final long[] sum = sums.get(id);
+        return sum != null ? sum[0] : 0L;
+    }
+
+    /**
+     * 테이블을 조회하는 유저별 재확인 (ForkJoinPool.ManagedBlocker)
+     */
+    private class VerifyBalanceBlocker implements ForkJoinPool.ManagedBlocker {
+
+        private final long id;
+        private final boolean rebuild;
+        private PointDrift drift;
+        private boolean done;
+
+        VerifyBalanceBlocker(long id, boolean rebuild) {
+            this.id = id;
+            this.rebuild = rebuild;
+        }
+
+        @Override
+        public boolean block() {
+            drift = pointService.verifyBalance(id, rebuild);
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+    }
+
+    static long signedAmount(PointHistory history) {
+        return history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+    }
+}
@@ -1,6 +1,7 @@
 package io.hhplus.tdd.point.domain;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PointRepository {
     UserPoint insertOrUpdate(long id, long amount);
@@ -10,4 +11,25 @@ public interface PointRepository {
     UserPoint point(long id);
 
     List<PointHistory> getUserHistory(long id);
+
+    /**
+     * updateMillis 가 [from, to] 범위에 속하는 유저의 포인트 내역 조회 (updateMillis 오름차순)
+     */
+    List<PointHistory> getUserHistory(long id, long from, long to);
+
+    /**
+     * updateMillis 가 [from, to] 범위에 속하는 전체 유저의 포인트 내역 조회 (updateMillis 오름차순)
+     */
+    List<PointHistory> getHistories(long from, long to);
+
+    /**
+     * 전체 유저 포인트를 목록으로 만들지 않고 순회합니다.
+     */
+    Stream<UserPoint> streamPoints();
+
+    /**
+     * afterId 보다 큰 id 의 포인트 내역을 목록으로 만들지 않고 id 오름차순으로 순회합니다.
+     * - 마지막으로 받은 id 로 이어받아도 누락이 없도록, 앞선 id 가 모두 기록된 내역까지만 순회합니다.
+     */
+    Stream<PointHistory> streamHistories(long afterId);
 }
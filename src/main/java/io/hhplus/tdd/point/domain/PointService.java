@@ -1,17 +1,30 @@
 package io.hhplus.tdd.point.domain;
 
+import io.hhplus.tdd.point.domain.UserLockTable.UserLock;
+import io.hhplus.tdd.point.exception.InvalidHistoryIdException;
+import io.hhplus.tdd.point.exception.InvalidTimeRangeException;
 import io.hhplus.tdd.point.exception.InvalidUserIdException;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointValidationException;
+import io.hhplus.tdd.point.exception.UserPointNotFoundException;
+import io.hhplus.tdd.point.monitoring.PointTiming;
+import io.hhplus.tdd.point.monitoring.PointTiming.Phase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
 
+@Lazy(false)
 @Service
 public class PointService {
 
@@ -19,12 +32,33 @@ public class PointService {
 
     private final PointRepository pointRepository;
 
-    private final Map<Long, Lock> locks = new ConcurrentHashMap<>();
+    // 유저별 락과 버전(ETag 계산용), 요청마다 Long 박싱 없이 조회합니다.
+    private final UserLockTable locks = new UserLockTable();
+
+    // 락 경합이 잦은 유저는 대기 중인 충전/사용을 모아 한 번에 반영합니다. (point.hot-key.* 로 설정)
+    private HotKeyDetector hotKeyDetector = new HotKeyDetector(16, 64, 1_000);
+    private final Map<Long, Queue<PendingOperation>> pendingOperations = new ConcurrentHashMap<>();
 
     public PointService(PointRepository pointRepository) {
         this.pointRepository = pointRepository;
     }
 
+    /**
+     * hot 유저 탐지 설정
+     * - 생성자는 저장소만 받도록 유지하고, 애플리케이션 설정은 빈 초기화 시 주입합니다.
+     * @param topK 후보로 관리할 유저 수
+     * @param threshold hot 으로 전환되는 window 당 경합 횟수 (절반 아래로 내려가면 일반 처리로 복귀)
+     * @param windowMillis 경합 횟수를 절반으로 줄이는 주기
+     */
+    @Autowired
+    void configureHotKeyDetector(
+            @Value("${point.hot-key.top-k:16}") int topK,
+            @Value("${point.hot-key.threshold:64}") long threshold,
+            @Value("${point.hot-key.window-millis:1000}") long windowMillis
+    ) {
+        this.hotKeyDetector = new HotKeyDetector(topK, threshold, windowMillis);
+    }
+
     /**
      * 유저 포인트 조회
      * @param id
@@ -33,10 +67,29 @@ public class PointService {
     public UserPoint point(long id) {
         // 유효하지 않은 ID 검사
         if (id <= 0) {
-            throw new InvalidUserIdException("Invalid user ID: " + id);
+            throw new InvalidUserIdException(id);
         }
 
-        return pointRepository.point(id);
+        final long started = PointTiming.start();
+        final UserPoint point = pointRepository.point(id);
+        PointTiming.stop(Phase.SELECT, started);
+        return point;
+    }
+
+    /**
+     * 유저 포인트 버전 조회
+     * - 충전/사용이 반영될 때마다 증가하며, 테이블을 조회하지 않습니다.
+     * @param id
+     * @return
+     */
+    public long version(long id) {
+        // 유효하지 않은 ID 검사
+        if (id <= 0) {
+            throw new InvalidUserIdException(id);
+        }
+
+        final UserLock lock = locks.find(id);
+        return lock == null ? 0 : lock.version();
     }
 
     /**
@@ -47,50 +100,390 @@ public class PointService {
     public List<PointHistory> history(long id) {
         // 유효하지 않은 ID 검사
         if (id <= 0) {
-            throw new InvalidUserIdException("Invalid user ID: " + id);
+            throw new InvalidUserIdException(id);
+        }
+
+        final long started = PointTiming.start();
+        final List<PointHistory> histories = pointRepository.getUserHistory(id);
+        PointTiming.stop(Phase.SELECT, started);
+        return histories;
+    }
+
+    /**
+     * 유저 포인트 충전/이용 내역 기간 조회
+     * @param id
+     * @param from updateMillis 시작 (포함)
+     * @param to updateMillis 종료 (포함)
+     * @return
+     */
+    public List<PointHistory> history(long id, long from, long to) {
+        // 유효하지 않은 ID 검사
+        if (id <= 0) {
+            throw new InvalidUserIdException(id);
+        }
+        validateRange(from, to);
+
+        final long started = PointTiming.start();
+        final List<PointHistory> histories = pointRepository.getUserHistory(id, from, to);
+        PointTiming.stop(Phase.SELECT, started);
+        return histories;
+    }
+
+    /**
+     * 전체 유저 포인트 충전/이용 내역 기간 조회
+     * @param from updateMillis 시작 (포함)
+     * @param to updateMillis 종료 (포함)
+     * @return
+     */
+    public List<PointHistory> histories(long from, long to) {
+        validateRange(from, to);
+
+        return pointRepository.getHistories(from, to);
+    }
+
+    /**
+     * 전체 유저 포인트 내보내기
+     * - 테이블을 유저마다 조회하지 않고, 목록으로 만들지 않은 채 순회합니다.
+     * @return
+     */
+    public Stream<UserPoint> exportPoints() {
+        return pointRepository.streamPoints();
+    }
+
+    /**
+     * 전체 포인트 내역 내보내기 (id 오름차순)
+     * @param afterId 마지막으로 받은 내역 id (이어받기, 처음부터는 0)
+     * @return
+     */
+    public Stream<PointHistory> exportHistories(long afterId) {
+        if (afterId < 0) {
+            throw new InvalidHistoryIdException(afterId);
         }
 
-        return pointRepository.getUserHistory(id);
+        return pointRepository.streamHistories(afterId);
+    }
+
+    /**
+     * 락 경합이 잦은 유저 조회
+     * @return
+     */
+    public List<HotKey> hotKeys() {
+        return hotKeyDetector.hotKeys();
     }
 
     public UserPoint charge(long id, long amount) {
-        return process(id, amount, (point) -> {
-            final UserPoint chargedPoint = point.charge(amount);
-            pointRepository.insertHistory(id, amount, TransactionType.CHARGE, chargedPoint.updateMillis());
-            return chargedPoint;
-        });
+        return process(id, amount, TransactionType.CHARGE);
     }
 
     public UserPoint use(long id, long amount) {
-        return process(id, amount, (point) -> {
-            final UserPoint usedPoint = point.use(amount);
-            if (usedPoint.point() < 0) {
-                throw new IllegalStateException("Insufficient points");
+        return process(id, amount, TransactionType.USE);
+    }
+
+    /**
+     * 유저 간 포인트 선물(이체)
+     * - 두 유저의 락을 유저 ID 순서로 획득하므로, 어떤 조합으로 동시에 호출되어도 데드락이 발생하지 않습니다.
+     * - 보내는 유저의 사용과 받는 유저의 충전이 모두 검증된 뒤에만 내역과 잔액을 기록합니다.
+     * @param fromId 보내는 유저
+     * @param toId 받는 유저
+     * @param amount
+     * @return
+     */
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        if (fromId <= 0) {
+            throw new InvalidUserIdException(fromId);
+        }
+        if (toId <= 0) {
+            throw new InvalidUserIdException(toId);
+        }
+        if (fromId == toId) {
+            throw new InvalidUserIdException("Cannot transfer to the same user: " + fromId);
+        }
+
+        final UserLock fromLock = locks.get(fromId);
+        final UserLock toLock = locks.get(toId);
+        final UserLock first = fromId < toId ? fromLock : toLock;
+        final UserLock second = fromId < toId ? toLock : fromLock;
+        long started = PointTiming.start();
+        first.lock();
+        try {
+            second.lock();
+            PointTiming.stop(Phase.LOCK, started);
+            try {
+                started = PointTiming.start();
+                final UserPoint fromPoint = pointRepository.point(fromId);
+                final UserPoint toPoint = pointRepository.point(toId);
+                PointTiming.stop(Phase.SELECT, started);
+                if (fromPoint == null || toPoint == null) {
+                    throw UserPointNotFoundException.INSTANCE;
+                }
+
+                PointValidationException rejected = validate(fromPoint, TransactionType.USE, amount);
+                if (rejected == null) {
+                    rejected = validate(toPoint, TransactionType.CHARGE, amount);
+                }
+                if (rejected != null) {
+                    throw rejected;
+                }
+
+                final UserPoint usedPoint = apply(fromPoint, TransactionType.USE, amount);
+                final UserPoint chargedPoint = apply(toPoint, TransactionType.CHARGE, amount);
+
+                // 두 내역 모두 이체 시각으로 기록합니다.
+                final long transferredMillis = System.currentTimeMillis();
+                started = PointTiming.start();
+                pointRepository.insertHistory(fromId, amount, TransactionType.USE, transferredMillis);
+                pointRepository.insertHistory(toId, amount, TransactionType.CHARGE, transferredMillis);
+                PointTiming.stop(Phase.HISTORY, started);
+                started = PointTiming.start();
+                try {
+                    return new PointTransfer(
+                            pointRepository.insertOrUpdate(fromId, usedPoint.point()),
+                            pointRepository.insertOrUpdate(toId, chargedPoint.point())
+                    );
+                } finally {
+                    PointTiming.stop(Phase.UPDATE, started);
+                    fromLock.increaseVersion();
+                    toLock.increaseVersion();
+                }
+            } finally {
+                second.unlock();
+            }
+        } finally {
+            first.unlock();
+        }
+    }
+
+    /**
+     * 유저의 락을 잡은 상태에서 잔액과 내역 합계를 다시 비교합니다. (PointReconciler 용)
+     * @param id
+     * @param rebuild true 이면 불일치 잔액을 내역 합계로 다시 기록합니다.
+     * @return 불일치가 없으면 null
+     */
+    PointDrift verifyBalance(long id, boolean rebuild) {
+        final UserLock lock = locks.get(id);
+        lock.lock();
+
+        try {
+            long expectedPoint = 0;
+            for (PointHistory history : pointRepository.getUserHistory(id, Long.MIN_VALUE, Long.MAX_VALUE)) {
+                expectedPoint += PointReconciler.signedAmount(history);
             }
-            pointRepository.insertHistory(id, amount, TransactionType.USE, usedPoint.updateMillis());
-            return usedPoint;
-        });
+
+            final long actualPoint = pointRepository.point(id).point();
+            if (expectedPoint == actualPoint) {
+                return null;
+            }
+
+            if (rebuild) {
+                log.warn("Rebuilding user point. id: {}, expected: {}, actual: {}", id, expectedPoint, actualPoint);
+                pointRepository.insertOrUpdate(id, expectedPoint);
+                lock.increaseVersion();
+            }
+            return new PointDrift(id, expectedPoint, actualPoint);
+        } finally {
+            lock.unlock();
+        }
     }
 
-    private UserPoint process(long id, long amount, Function<UserPoint, UserPoint> operation) {
+    private UserPoint process(long id, long amount, TransactionType type) {
         if (id <= 0) {
-            throw new InvalidUserIdException("Invalid user ID: " + id);
+            throw new InvalidUserIdException(id);
+        }
+
+        final UserLock lock = locks.get(id);
+        if (hotKeyDetector.isHot(id)) {
+            return combine(lock, id, amount, type);
         }
 
-        final Lock lock = locks.computeIfAbsent(id, userId -> new ReentrantLock(true));
+        if (lock.isLocked() || lock.hasQueuedThreads()) {
+            hotKeyDetector.recordContention(id);
+        }
+        long started = PointTiming.start();
         lock.lock();
+        PointTiming.stop(Phase.LOCK, started);
 
         try {
+            started = PointTiming.start();
             final UserPoint point = pointRepository.point(id);
+            PointTiming.stop(Phase.SELECT, started);
             if (point == null) {
-                throw new IllegalStateException("User point not found");
+                throw UserPointNotFoundException.INSTANCE;
+            }
+
+            final PointValidationException rejected = validate(point, type, amount);
+            if (rejected != null) {
+                throw rejected;
+            }
+
+            final UserPoint updatedPoint = apply(point, type, amount);
+            // 내역은 이전 잔액의 갱신 시각이 아니라 이번 거래 시각으로 기록합니다. (기간 조회 인덱스 기준)
+            started = PointTiming.start();
+            pointRepository.insertHistory(id, amount, type, System.currentTimeMillis());
+            PointTiming.stop(Phase.HISTORY, started);
+            started = PointTiming.start();
+            try {
+                return pointRepository.insertOrUpdate(id, updatedPoint.point());
+            } finally {
+                PointTiming.stop(Phase.UPDATE, started);
+                // 내역이 기록된 이후에는 잔액 갱신 성공 여부와 관계없이 버전을 올려 캐시를 무효화합니다.
+                lock.increaseVersion();
             }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * hot 유저의 충전/사용 (flat combining)
+     * - 요청을 유저별 대기열에 넣고 락을 기다립니다.
+     * - 먼저 락을 얻은 스레드가 대기열의 요청을 모두 꺼내 한 번의 조회/저장으로 반영하고,
+     *   이후 락을 얻은 스레드는 이미 처리된 자신의 결과만 확인합니다.
+     */
+    private UserPoint combine(UserLock lock, long id, long amount, TransactionType type) {
+        final PendingOperation operation = new PendingOperation(type, amount);
+        final Queue<PendingOperation> queue = pendingOperations.computeIfAbsent(id, userId -> new ConcurrentLinkedQueue<>());
+        // hot 상태에서도 경합을 계속 기록해야 부하가 이어지는 동안 hot 으로 유지됩니다.
+        if (!queue.isEmpty() || lock.isLocked() || lock.hasQueuedThreads()) {
+            hotKeyDetector.recordContention(id);
+        }
+        queue.add(operation);
 
-            UserPoint updatedPoint = operation.apply(point);
-            return pointRepository.insertOrUpdate(id, updatedPoint.point());
+        final long started = PointTiming.start();
+        lock.lock();
+        PointTiming.stop(Phase.LOCK, started);
+        try {
+            if (!operation.done) {
+                applyPending(lock, id, queue);
+            }
         } finally {
             lock.unlock();
         }
+        return operation.result();
+    }
+
+    private void applyPending(UserLock lock, long id, Queue<PendingOperation> queue) {
+        final List<PendingOperation> applied = new ArrayList<>();
+        try {
+            long started = PointTiming.start();
+            UserPoint point = pointRepository.point(id);
+            PointTiming.stop(Phase.SELECT, started);
+            if (point == null) {
+                throw UserPointNotFoundException.INSTANCE;
+            }
+
+            // 한 번에 반영되는 요청의 내역은 모두 이번 반영 시각으로 기록합니다.
+            final long appliedMillis = System.currentTimeMillis();
+            started = PointTiming.start();
+            PendingOperation operation;
+            while ((operation = queue.poll()) != null) {
+                // 거절된 요청은 예외를 던지지 않고 결과로 검증하여 나머지 요청을 계속 반영합니다.
+                final PointValidationException rejected = validate(point, operation.type, operation.amount);
+                if (rejected != null) {
+                    operation.fail(rejected);
+                    continue;
+                }
+                try {
+                    final UserPoint updatedPoint = apply(point, operation.type, operation.amount);
+                    pointRepository.insertHistory(id, operation.amount, operation.type, appliedMillis);
+                    point = updatedPoint;
+                    operation.point = updatedPoint.point();
+                    applied.add(operation);
+                } catch (RuntimeException e) {
+                    operation.fail(e);
+                }
+            }
+            PointTiming.stop(Phase.HISTORY, started);
+
+            if (!applied.isEmpty()) {
+                started = PointTiming.start();
+                final UserPoint savedPoint;
+                try {
+                    savedPoint = pointRepository.insertOrUpdate(id, point.point());
+                } finally {
+                    PointTiming.stop(Phase.UPDATE, started);
+                    lock.increaseVersion();
+                }
+                for (PendingOperation appliedOperation : applied) {
+                    appliedOperation.complete(new UserPoint(id, appliedOperation.point, savedPoint.updateMillis()));
+                }
+            }
+        } catch (RuntimeException e) {
+            // 조회/저장 실패 시 아직 결과가 정해지지 않은 요청은 모두 실패 처리합니다.
+            applied.forEach(appliedOperation -> appliedOperation.fail(e));
+            PendingOperation operation;
+            while ((operation = queue.poll()) != null) {
+                operation.fail(e);
+            }
+        }
+    }
+
+    /**
+     * 충전/사용 검증
+     * - 검증 결과로 분기하므로, 거절된 요청도 예외 메시지나 스택을 미리 만들지 않습니다.
+     * @return 반영할 수 없으면 실패 예외, 반영할 수 있으면 null
+     */
+    private static PointValidationException validate(UserPoint point, TransactionType type, long amount) {
+        final PointErrorCode error = type == TransactionType.CHARGE
+                ? point.validateCharge(amount)
+                : point.validateUse(amount);
+        if (error == null) {
+            return null;
+        }
+
+        final long balance = type == TransactionType.CHARGE ? point.point() + amount : point.point() - amount;
+        return new PointValidationException(error, amount, balance);
+    }
+
+    private static UserPoint apply(UserPoint point, TransactionType type, long amount) {
+        return type == TransactionType.CHARGE ? point.charge(amount) : point.use(amount);
+    }
+
+    /**
+     * hot 유저 대기열의 충전/사용 요청
+     * - 결과 필드는 유저 락 안에서 기록되고, 요청 스레드는 같은 락을 해제한 뒤에 읽습니다.
+     */
+    private static class PendingOperation {
+
+        private final TransactionType type;
+        private final long amount;
+
+        private long point;
+        private boolean done;
+        private UserPoint result;
+        private RuntimeException failure;
+
+        PendingOperation(TransactionType type, long amount) {
+            this.type = type;
+            this.amount = amount;
+        }
+
+        void complete(UserPoint result) {
+            this.result = result;
+            this.done = true;
+        }
+
+        void fail(RuntimeException failure) {
+            this.failure = failure;
+            this.done = true;
+        }
+
+        UserPoint result() {
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 기간 조회 범위 검증 (조회 전에 ETag 를 검사하는 경우, 304 응답보다 먼저 검증합니다.)
+     * @param from updateMillis 시작 (포함)
+     * @param to updateMillis 종료 (포함)
+     */
+    public void validateRange(long from, long to) {
+        if (from > to) {
+            throw new InvalidTimeRangeException("Invalid time range: from " + from + " to " + to);
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.domain;
+
+/**
+ * 포인트 선물(이체) 결과
+ * - from : 보낸 유저의 이체 후 포인트
+ * - to : 받은 유저의 이체 후 포인트
+ */
+public record PointTransfer(
+        UserPoint from,
+        UserPoint to
+) {
+}
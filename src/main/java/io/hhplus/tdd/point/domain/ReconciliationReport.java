@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.List;
+
+/**
+ * 잔액 정합성 검사 결과
+ * - rebuilt : 불일치 잔액을 내역 합계로 다시 기록했는지 여부
+ */
+public record ReconciliationReport(
+        int scannedHistories,
+        int checkedUsers,
+        List<PointDrift> drifts,
+        boolean rebuilt,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 락 테이블
+ * - long ID 를 키로 하는 open addressing 테이블이라, 조회 시 Long 박싱이나 할당이 없습니다.
+ * - 조회는 락 없이 현재 배열을 탐색하고, 처음 보는 유저만 synchronized 안에서 추가합니다.
+ * - 유저 락은 제거하지 않습니다. (UserPointTable 과 같이 유저 수만큼 유지됩니다.)
+ */
+final class UserLockTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private volatile AtomicReferenceArray<UserLock> slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private int size;
+
+    /**
+     * 유저 락 조회 (없으면 생성)
+     * @param id
+     * @return
+     */
+    UserLock get(long id) {
+        final UserLock lock = find(slots, id);
+        return lock != null ? lock : add(id);
+    }
+
+    /**
+     * 이미 생성된 유저 락만 조회
+     * @param id
+     * @return 충전/사용 등으로 락이 생성된 적이 없으면 null
+     */
+    UserLock find(long id) {
+        AtomicReferenceArray<UserLock> table = slots;
+        UserLock lock = find(table, id);
+        // 탐색 도중 테이블이 확장되었다면 새 테이블에서 다시 찾습니다.
+        while (lock == null && table != slots) {
+            table = slots;
+            lock = find(table, id);
+        }
+        return lock;
+    }
+
+    private synchronized UserLock add(long id) {
+        AtomicReferenceArray<UserLock> table = slots;
+        final UserLock existing = find(table, id);
+        if (existing != null) {
+            return existing;
+        }
+
+        // 빈 슬롯이 항상 남도록 사용률을 1/2 이하로 유지합니다.
+        if ((size + 1) * 2 > table.length()) {
+            table = resize(table);
+        }
+        final UserLock lock = new UserLock(id);
+        insert(table, lock);
+        size++;
+        return lock;
+    }
+
+    private AtomicReferenceArray<UserLock> resize(AtomicReferenceArray<UserLock> table) {
+        final AtomicReferenceArray<UserLock> resized = new AtomicReferenceArray<>(table.length() * 2);
+        for (int i = 0; i < table.length(); i++) {
+            final UserLock lock = table.get(i);
+            if (lock != null) {
+                insert(resized, lock);
+            }
+        }
+        slots = resized;
+        return resized;
+    }
+
+    private static UserLock find(AtomicReferenceArray<UserLock> table, long id) {
+        final int mask = table.length() - 1;
+        for (int i = index(id, mask); ; i = (i + 1) & mask) {
+            final UserLock lock = table.get(i);
+            if (lock == null || lock.id == id) {
+                return lock;
+            }
+        }
+    }
+
+    private static void insert(AtomicReferenceArray<UserLock> table, UserLock lock) {
+        final int mask = table.length() - 1;
+        int i = index(lock.id, mask);
+        while (table.get(i) != null) {
+            i = (i + 1) & mask;
+        }
+        table.set(i, lock);
+    }
+
+    private static int index(long id, int mask) {
+        final long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * 유저 한 명의 fair 락과 변경 버전
+     * - 버전은 락을 잡은 스레드만 증가시키고, 조회는 락 없이 읽습니다.
+     */
+    static final class UserLock extends ReentrantLock {
+
+        private final long id;
+        private volatile long version;
+
+        UserLock(long id) {
+            super(true);
+            this.id = id;
+        }
+
+        long version() {
+            return version;
+        }
+
+        void increaseVersion() {
+            version++;
+        }
+    }
+}
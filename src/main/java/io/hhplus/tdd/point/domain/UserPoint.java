@@ -1,5 +1,6 @@
 package io.hhplus.tdd.point.domain;
 
+import io.hhplus.tdd.point.exception.PointErrorCode;
 import io.hhplus.tdd.point.exception.PointValidationException;
 
 public record UserPoint(
@@ -14,30 +15,51 @@ public record UserPoint(
         return new UserPoint(id, 0, System.currentTimeMillis());
     }
 
-    public UserPoint charge(long amount) {
+    /**
+     * 충전 가능 여부 검증 (예외를 만들지 않고 실패 사유를 반환)
+     * @param amount
+     * @return 충전 가능하면 null
+     */
+    public PointErrorCode validateCharge(long amount) {
         if (amount < 0) {
-            throw new PointValidationException("Invalid charge amount: " + amount);
+            return PointErrorCode.INVALID_CHARGE_AMOUNT;
         }
-
-        long sumPoint = this.point() + amount;
-
-        if (sumPoint > MAX_POINT_BALANCE) {
-            throw new PointValidationException("Exceeded maximum balance: " + sumPoint);
+        // point + amount 가 overflow 되지 않도록 뺄셈으로 비교합니다.
+        if (amount > MAX_POINT_BALANCE - this.point()) {
+            return PointErrorCode.EXCEEDED_MAX_BALANCE;
         }
-        return new UserPoint(id, sumPoint, updateMillis);
+        return null;
     }
 
-    public UserPoint use(long amount) {
+    /**
+     * 사용 가능 여부 검증 (예외를 만들지 않고 실패 사유를 반환)
+     * @param amount
+     * @return 사용 가능하면 null
+     */
+    public PointErrorCode validateUse(long amount) {
         if (amount < 0) {
-            throw new PointValidationException("Invalid usage amount: " + amount);
+            return PointErrorCode.INVALID_USE_AMOUNT;
+        }
+        if (amount > this.point()) {
+            return PointErrorCode.INSUFFICIENT_BALANCE;
         }
+        return null;
+    }
 
-        long remainingPoint = this.point() - amount;
+    public UserPoint charge(long amount) {
+        final PointErrorCode error = validateCharge(amount);
+        if (error != null) {
+            throw new PointValidationException(error, amount, this.point() + amount);
+        }
+        return new UserPoint(id, this.point() + amount, updateMillis);
+    }
 
-        if (remainingPoint < 0) {
-            throw new PointValidationException("Insufficient balance: attempted to use: " + amount + ", remaining balance: " + remainingPoint);
+    public UserPoint use(long amount) {
+        final PointErrorCode error = validateUse(amount);
+        if (error != null) {
+            throw new PointValidationException(error, amount, this.point() - amount);
         }
-        return new UserPoint(id, remainingPoint, updateMillis);
+        return new UserPoint(id, this.point() - amount, updateMillis);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.exception;
+
+public class InvalidHistoryIdException extends PointException {
+
+    private final long id;
+
+    public InvalidHistoryIdException(long id) {
+        super(PointErrorCode.INVALID_HISTORY_ID, null);
+        this.id = id;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Invalid history ID: " + id;
+    }
+}
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.exception;
+
+public class InvalidTimeRangeException extends PointException {
+    public InvalidTimeRangeException(String message) {
+        super(PointErrorCode.INVALID_TIME_RANGE, message);
+    }
+}
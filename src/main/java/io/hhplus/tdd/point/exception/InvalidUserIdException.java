@@ -1,7 +1,22 @@
 package io.hhplus.tdd.point.exception;
 
-public class InvalidUserIdException extends RuntimeException {
+public class InvalidUserIdException extends PointException {
+
+    private final long id;
+
     public InvalidUserIdException(String message) {
-        super(message);
+        super(PointErrorCode.INVALID_USER_ID, message);
+        this.id = 0;
+    }
+
+    public InvalidUserIdException(long id) {
+        super(PointErrorCode.INVALID_USER_ID, null);
+        this.id = id;
+    }
+
+    @Override
+    public String getMessage() {
+        final String message = super.getMessage();
+        return message != null ? message : "Invalid user ID: " + id;
     }
-}
\ No newline at end of file
+}
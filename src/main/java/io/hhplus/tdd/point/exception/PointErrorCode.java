@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.exception;
+
+/**
+ * 포인트 API 실패 사유와 HTTP 상태 코드
+ */
+public enum PointErrorCode {
+    INVALID_REQUEST(400),
+    INVALID_USER_ID(400),
+    INVALID_TIME_RANGE(400),
+    INVALID_HISTORY_ID(400),
+    INVALID_CHARGE_AMOUNT(400),
+    INVALID_USE_AMOUNT(400),
+    EXCEEDED_MAX_BALANCE(409),
+    INSUFFICIENT_BALANCE(409),
+    USER_POINT_NOT_FOUND(404);
+
+    private final int status;
+
+    PointErrorCode(int status) {
+        this.status = status;
+    }
+
+    public int status() {
+        return status;
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.exception;
+
+/**
+ * 포인트 API 예외의 공통 부모
+ * - 거절된 요청은 자주 발생하는 정상 흐름이므로 스택 트레이스를 만들지 않습니다.
+ * - 하위 예외는 메시지를 getMessage() 호출 시점에 만들어, 로그/응답이 필요 없는 경우 문자열 생성 비용도 없습니다.
+ */
+public abstract class PointException extends RuntimeException {
+
+    private final PointErrorCode code;
+
+    protected PointException(PointErrorCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    public PointErrorCode code() {
+        return code;
+    }
+}
@@ -1,7 +1,40 @@
 package io.hhplus.tdd.point.exception;
 
-public class PointValidationException extends RuntimeException {
+public class PointValidationException extends PointException {
+
+    private final long amount;
+    private final long balance;
+
     public PointValidationException(String message) {
-        super(message);
+        super(PointErrorCode.INVALID_REQUEST, message);
+        this.amount = 0;
+        this.balance = 0;
+    }
+
+    /**
+     * @param code 실패 사유
+     * @param amount 요청 금액
+     * @param balance 요청이 반영되었을 경우의 잔액
+     */
+    public PointValidationException(PointErrorCode code, long amount, long balance) {
+        super(code, null);
+        this.amount = amount;
+        this.balance = balance;
+    }
+
+    @Override
+    public String getMessage() {
+        final String message = super.getMessage();
+        if (message != null) {
+            return message;
+        }
+
+        return switch (code()) {
+            case INVALID_CHARGE_AMOUNT -> "Invalid charge amount: " + amount;
+            case INVALID_USE_AMOUNT -> "Invalid usage amount: " + amount;
+            case EXCEEDED_MAX_BALANCE -> "Exceeded maximum balance: " + balance;
+            case INSUFFICIENT_BALANCE -> "Insufficient balance: attempted to use: " + amount + ", remaining balance: " + balance;
+            default -> code().name();
+        };
     }
 }
@@ -1,7 +1,11 @@
 package io.hhplus.tdd.point.exception;
 
-public class UserPointNotFoundException extends RuntimeException {
+public class UserPointNotFoundException extends PointException {
+
+    // 요청별 정보가 없으므로 하나의 인스턴스를 재사용합니다.
+    public static final UserPointNotFoundException INSTANCE = new UserPointNotFoundException("User point not found");
+
     public UserPointNotFoundException(String message) {
-        super(message);
+        super(PointErrorCode.USER_POINT_NOT_FOUND, message);
     }
 }
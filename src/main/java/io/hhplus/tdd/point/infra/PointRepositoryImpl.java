@@ -6,24 +6,57 @@ import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.domain.PointRepository;
 import io.hhplus.tdd.point.domain.TransactionType;
 import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
+@Lazy(false)
 @Repository
 public class PointRepositoryImpl implements PointRepository {
 
+    private static final Comparator<PointHistory> UPDATE_MILLIS_ORDER =
+            Comparator.comparingLong(PointHistory::updateMillis).thenComparingLong(PointHistory::id);
+
     PointHistoryTable pointHistoryTable = new PointHistoryTable();
     UserPointTable userPointTable = new UserPointTable();
 
+    // PointHistoryTable 은 변경할 수 없으므로, 기간 조회를 위한 updateMillis 정렬 인덱스를 이곳에서 관리합니다.
+    private final NavigableSet<PointHistory> historyIndex = new ConcurrentSkipListSet<>(UPDATE_MILLIS_ORDER);
+    private final Map<Long, NavigableSet<PointHistory>> userHistoryIndex = new ConcurrentHashMap<>();
+    // 전체 내역/잔액 내보내기용 인덱스 (id 순 내역, 유저별 최신 잔액)
+    private final NavigableMap<Long, PointHistory> historyIdIndex = new ConcurrentSkipListMap<>();
+    private final Map<Long, UserPoint> pointIndex = new ConcurrentHashMap<>();
+    // 이 id 이하의 내역은 모두 historyIdIndex 에 반영되었습니다. (워터마크)
+    // id 는 테이블에서 발급되지만 인덱스 반영은 유저마다 병렬로 일어나므로, 6 번이 5 번보다 먼저 보일 수 있습니다.
+    // 내보내기는 워터마크까지만 읽어, 이어받기(afterId) 시 늦게 반영된 작은 id 를 건너뛰지 않도록 합니다.
+    private final AtomicLong publishedHistoryId = new AtomicLong();
+
     @Override
     public UserPoint insertOrUpdate(long id, long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        final UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+        pointIndex.put(id, userPoint);
+        return userPoint;
     }
 
     @Override
     public PointHistory insertHistory(long id, long amount, TransactionType type, long updateMillis) {
-        return pointHistoryTable.insert(id, amount, type, updateMillis);
+        final PointHistory history = pointHistoryTable.insert(id, amount, type, updateMillis);
+        historyIndex.add(history);
+        historyIdIndex.put(history.id(), history);
+        publishHistories();
+        userHistoryIndex.computeIfAbsent(id, userId -> new ConcurrentSkipListSet<>(UPDATE_MILLIS_ORDER)).add(history);
+        return history;
     }
 
     @Override
@@ -36,4 +69,49 @@ public class PointRepositoryImpl implements PointRepository {
         return pointHistoryTable.selectAllByUserId(id);
     }
 
-}
\ No newline at end of file
+    @Override
+    public List<PointHistory> getUserHistory(long id, long from, long to) {
+        final NavigableSet<PointHistory> index = userHistoryIndex.get(id);
+        if (index == null) {
+            return List.of();
+        }
+        return range(index, from, to);
+    }
+
+    @Override
+    public List<PointHistory> getHistories(long from, long to) {
+        return range(historyIndex, from, to);
+    }
+
+    @Override
+    public Stream<UserPoint> streamPoints() {
+        return pointIndex.values().stream();
+    }
+
+    @Override
+    public Stream<PointHistory> streamHistories(long afterId) {
+        final long publishedId = publishedHistoryId.get();
+        if (afterId >= publishedId) {
+            return Stream.empty();
+        }
+        return historyIdIndex.subMap(afterId, false, publishedId, true).values().stream();
+    }
+
+    /**
+     * 빈 id 없이 이어지는 곳까지 워터마크를 올립니다.
+     * - 빈 id 를 채운 스레드가 그 뒤에 먼저 반영된 id 까지 함께 올립니다.
+     */
+    private void publishHistories() {
+        long publishedId;
+        while (historyIdIndex.containsKey((publishedId = publishedHistoryId.get()) + 1)) {
+            publishedHistoryId.compareAndSet(publishedId, publishedId + 1);
+        }
+    }
+
+    private List<PointHistory> range(NavigableSet<PointHistory> index, long from, long to) {
+        final PointHistory lower = new PointHistory(Long.MIN_VALUE, 0, 0, null, from);
+        final PointHistory upper = new PointHistory(Long.MAX_VALUE, 0, 0, null, to);
+        return new ArrayList<>(index.subSet(lower, true, upper, true));
+    }
+
+}
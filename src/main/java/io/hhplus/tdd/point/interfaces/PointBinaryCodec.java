@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point.interfaces;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 API 바이너리 포맷 인코더/디코더
+ * - 모든 정수는 고정 길이 little-endian 으로 기록합니다.
+ * - UserPoint : id(8) + point(8) + updateMillis(8) = 24 bytes
+ * - PointHistory : id(8) + userId(8) + amount(8) + type(1) + updateMillis(8) = 33 bytes
+ * - List&lt;PointHistory&gt; : count(4) + PointHistory * count
+ * - amount(long) : 8 bytes
+ */
+public final class PointBinaryCodec {
+
+    public static final int AMOUNT_SIZE = Long.BYTES;
+    public static final int USER_POINT_SIZE = Long.BYTES * 3;
+    public static final int POINT_HISTORY_SIZE = Long.BYTES * 4 + 1;
+    public static final int LIST_HEADER_SIZE = Integer.BYTES;
+
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+    private PointBinaryCodec() {
+    }
+
+    public static long historiesSize(int count) {
+        return LIST_HEADER_SIZE + (long) POINT_HISTORY_SIZE * count;
+    }
+
+    public static byte[] encodeAmount(long amount) {
+        final byte[] bytes = new byte[AMOUNT_SIZE];
+        putLong(bytes, 0, amount);
+        return bytes;
+    }
+
+    public static long decodeAmount(byte[] bytes) {
+        requireExactLength(bytes, AMOUNT_SIZE);
+        return getLong(bytes, 0);
+    }
+
+    public static byte[] encode(UserPoint userPoint) {
+        final byte[] bytes = new byte[USER_POINT_SIZE];
+        putLong(bytes, 0, userPoint.id());
+        putLong(bytes, 8, userPoint.point());
+        putLong(bytes, 16, userPoint.updateMillis());
+        return bytes;
+    }
+
+    public static UserPoint decodeUserPoint(byte[] bytes) {
+        requireExactLength(bytes, USER_POINT_SIZE);
+        return new UserPoint(getLong(bytes, 0), getLong(bytes, 8), getLong(bytes, 16));
+    }
+
+    public static byte[] encode(List<PointHistory> histories) {
+        final int count = histories.size();
+        final long size = historiesSize(count);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many histories: " + count);
+        }
+        final byte[] bytes = new byte[(int) size];
+        putInt(bytes, 0, count);
+        int offset = LIST_HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            offset = putHistory(bytes, offset, histories.get(i));
+        }
+        return bytes;
+    }
+
+    public static List<PointHistory> decodeHistories(byte[] bytes) {
+        if (bytes.length < LIST_HEADER_SIZE) {
+            throw new IllegalArgumentException("Invalid payload length: " + bytes.length);
+        }
+        final int count = getInt(bytes, 0);
+        // 할당 전에 count 와 실제 페이로드 길이가 정확히 맞는지 확인합니다. (남는 바이트도 거부)
+        if (count < 0 || historiesSize(count) != bytes.length) {
+            throw new IllegalArgumentException("Invalid history count: " + count + ", payload length: " + bytes.length);
+        }
+
+        final List<PointHistory> histories = new ArrayList<>(count);
+        int offset = LIST_HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            histories.add(new PointHistory(
+                    getLong(bytes, offset),
+                    getLong(bytes, offset + 8),
+                    getLong(bytes, offset + 16),
+                    TRANSACTION_TYPES[bytes[offset + 24]],
+                    getLong(bytes, offset + 25)
+            ));
+            offset += POINT_HISTORY_SIZE;
+        }
+        return histories;
+    }
+
+    private static int putHistory(byte[] bytes, int offset, PointHistory history) {
+        putLong(bytes, offset, history.id());
+        putLong(bytes, offset + 8, history.userId());
+        putLong(bytes, offset + 16, history.amount());
+        bytes[offset + 24] = (byte) history.type().ordinal();
+        putLong(bytes, offset + 25, history.updateMillis());
+        return offset + POINT_HISTORY_SIZE;
+    }
+
+    private static void requireExactLength(byte[] bytes, int length) {
+        if (bytes.length != length) {
+            throw new IllegalArgumentException("Invalid payload length: " + bytes.length + ", expected: " + length);
+        }
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[offset + i] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value |= (bytes[offset + i] & 0xFFL) << (i * 8);
+        }
+        return value;
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            bytes[offset + i] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private static int getInt(byte[] bytes, int offset) {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value |= (bytes[offset + i] & 0xFF) << (i * 8);
+        }
+        return value;
+    }
+}
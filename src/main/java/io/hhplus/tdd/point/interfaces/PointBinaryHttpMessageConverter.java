@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point.interfaces;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * {@link PointBinaryCodec} 포맷으로 UserPoint, PointHistory 목록, 충전/사용 금액을 주고받는 컨버터
+ * - Accept / Content-Type 이 {@link #MEDIA_TYPE} 일 때만 선택되며, 그 외에는 기존 JSON 컨버터가 사용됩니다.
+ */
+public class PointBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-point-binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public PointBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserPoint.class == clazz || Long.class == clazz || long.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isSupported(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (type != null ? isSupported(type) : supports(clazz)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        final byte[] bytes = inputMessage.getBody().readAllBytes();
+        try {
+            if (type == UserPoint.class) {
+                return PointBinaryCodec.decodeUserPoint(bytes);
+            }
+            if (type == Long.class || type == long.class) {
+                return PointBinaryCodec.decodeAmount(bytes);
+            }
+            return PointBinaryCodec.decodeHistories(bytes);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new HttpMessageNotReadableException("Invalid point binary payload", e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        final byte[] bytes;
+        if (value instanceof UserPoint userPoint) {
+            bytes = PointBinaryCodec.encode(userPoint);
+        } else if (value instanceof Long amount) {
+            bytes = PointBinaryCodec.encodeAmount(amount);
+        } else if (value instanceof List<?> histories) {
+            bytes = PointBinaryCodec.encode((List<PointHistory>) histories);
+        } else {
+            throw new HttpMessageNotWritableException("Unsupported type: " + value.getClass());
+        }
+        outputMessage.getBody().write(bytes);
+    }
+
+    @Override
+    protected Long getContentLength(Object value, MediaType contentType) {
+        if (value instanceof UserPoint) {
+            return (long) PointBinaryCodec.USER_POINT_SIZE;
+        }
+        if (value instanceof Long) {
+            return (long) PointBinaryCodec.AMOUNT_SIZE;
+        }
+        if (value instanceof List<?> histories) {
+            return PointBinaryCodec.historiesSize(histories.size());
+        }
+        return null;
+    }
+
+    private boolean isSupported(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return supports(clazz);
+        }
+        if (type instanceof ParameterizedType parameterizedType) {
+            final Type[] arguments = parameterizedType.getActualTypeArguments();
+            return parameterizedType.getRawType() == List.class
+                    && arguments.length == 1
+                    && arguments[0] == PointHistory.class;
+        }
+        return false;
+    }
+}
@@ -1,24 +1,42 @@
 package io.hhplus.tdd.point.interfaces;
 
+import io.hhplus.tdd.point.domain.HotKey;
 import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.domain.PointService;
+import io.hhplus.tdd.point.domain.PointTransfer;
 import io.hhplus.tdd.point.domain.UserPoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
+@Lazy(false)
 @RestController
 @RequestMapping("/point")
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
+    // 재시작 전후의 ETag 가 충돌하지 않도록 버전 앞에 붙이는 값
+    private final long epoch = System.currentTimeMillis();
+
+    // 메시지 컨버터 등록 순서 (JSON 이 먼저, 바이너리는 extendMessageConverters 로 뒤에 추가됩니다.)
+    private static final List<MediaType> PRODUCIBLE_TYPES =
+            List.of(MediaType.APPLICATION_JSON, PointBinaryHttpMessageConverter.MEDIA_TYPE);
+
     private final PointService pointService;
+    private final ContentNegotiationManager contentNegotiationManager;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, ContentNegotiationManager contentNegotiationManager) {
         this.pointService = pointService;
+        this.contentNegotiationManager = contentNegotiationManager;
     }
 
     /**
@@ -26,8 +44,12 @@ public class PointController {
      */
     @GetMapping("{id}")
     public UserPoint point(
-            @PathVariable long id
+            @PathVariable long id,
+            ServletWebRequest request
     ) {
+        if (notModified(id, request)) {
+            return null;
+        }
         return pointService.point(id);
     }
 
@@ -36,9 +58,37 @@ public class PointController {
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
-            @PathVariable long id
+            @PathVariable long id,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            ServletWebRequest request
+    ) {
+        final boolean ranged = from != null || to != null;
+        final long rangeFrom = from != null ? from : Long.MIN_VALUE;
+        final long rangeTo = to != null ? to : Long.MAX_VALUE;
+        // 잘못된 기간 요청이 304 로 응답되지 않도록 ETag 검사 전에 검증합니다.
+        if (ranged) {
+            pointService.validateRange(rangeFrom, rangeTo);
+        }
+        if (notModified(id, request)) {
+            return null;
+        }
+        if (!ranged) {
+            return pointService.history(id);
+        }
+        return pointService.history(id, rangeFrom, rangeTo);
+    }
+
+    /**
+     * 전체 유저의 포인트 충전/이용 내역을 updateMillis 기간으로 조회합니다.
+     * - 전체 내역을 한 번에 반환하지 않도록 기간(from, to)을 반드시 지정해야 합니다. (전체는 /point/export/histories)
+     */
+    @GetMapping("histories")
+    public List<PointHistory> histories(
+            @RequestParam long from,
+            @RequestParam long to
     ) {
-        return pointService.history(id);
+        return pointService.histories(from, to);
     }
 
     /**
@@ -62,4 +112,68 @@ public class PointController {
     ) {
         return pointService.use(id, amount);
     }
+
+    /**
+     * 락 경합이 잦은 유저(hot key)와 일괄 처리 적용 여부를 조회합니다.
+     */
+    @GetMapping("hot-keys")
+    public List<HotKey> hotKeys() {
+        return pointService.hotKeys();
+    }
+
+    /**
+     * 특정 유저가 다른 유저에게 포인트를 선물합니다.
+     */
+    @PostMapping("transfer")
+    public PointTransfer transfer(
+            @RequestBody TransferRequest request
+    ) {
+        return pointService.transfer(request.fromId(), request.toId(), request.amount());
+    }
+
+    /**
+     * 유저 버전으로 만든 strong ETag 로 If-None-Match 를 검사합니다.
+     * - 테이블을 조회하지 않고 버전만으로 304 응답 여부를 결정합니다.
+     * - 같은 URL 이라도 바이너리/JSON 표현은 서로 다른 ETag 를 갖습니다.
+     */
+    private boolean notModified(long id, ServletWebRequest request) {
+        final boolean binary = PointBinaryHttpMessageConverter.MEDIA_TYPE.equals(negotiatedType(request));
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        final String etag = "\"" + epoch + "-" + id + "-" + pointService.version(id) + (binary ? "-b" : "-j") + "\"";
+        return request.checkNotModified(etag);
+    }
+
+    /**
+     * 응답 본문을 쓸 때와 같은 기준으로 Accept 에서 응답 표현을 고릅니다.
+     * - ContentNegotiationManager 가 specificity 순으로 정렬한 목록에서 quality 가 가장 높은 표현을 고르며,
+     *   같은 quality 면 더 구체적인 쪽, 와일드카드면 컨버터 등록 순서(JSON)를 따릅니다.
+     * - q=0 은 받지 않는 표현이므로 고르지 않습니다.
+     */
+    private MediaType negotiatedType(ServletWebRequest request) {
+        final List<MediaType> acceptableTypes;
+        try {
+            acceptableTypes = contentNegotiationManager.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        MediaType selected = MediaType.APPLICATION_JSON;
+        double selectedQuality = 0;
+        for (MediaType acceptableType : acceptableTypes) {
+            final double quality = acceptableType.getQualityValue();
+            if (quality <= selectedQuality) {
+                continue;
+            }
+            for (MediaType producibleType : PRODUCIBLE_TYPES) {
+                if (acceptableType.isCompatibleWith(producibleType)) {
+                    selected = producibleType;
+                    selectedQuality = quality;
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
 }
@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.interfaces;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointService;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 잔액/내역 일괄 내보내기 (데이터 웨어하우스 적재용)
+ * - 목록을 만들지 않고 한 건씩 chunked 응답으로 흘려보내므로 메모리 사용량이 데이터 크기와 무관합니다.
+ * - format : ndjson(기본) 또는 csv
+ * - Accept-Encoding 에 gzip 이 있으면 gzip 으로 압축합니다.
+ * - 내역은 id 오름차순이며, afterId 로 마지막으로 받은 내역 다음부터 이어받을 수 있습니다.
+ * - Stream 은 요청 스레드에서 만들어(검증 포함) 비동기 스레드에서 순회합니다.
+ */
+@RestController
+@RequestMapping("/point/export")
+public class PointExportController {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String FORMAT_CSV = "csv";
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final PointService pointService;
+
+    public PointExportController(PointService pointService) {
+        this.pointService = pointService;
+    }
+
+    @GetMapping("balances")
+    public ResponseEntity<StreamingResponseBody> balances(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        final boolean csv = FORMAT_CSV.equalsIgnoreCase(format);
+        return export(csv, acceptEncoding, pointService.exportPoints(), "id,point,updateMillis",
+                (writer, userPoint) -> writeUserPoint(writer, userPoint, csv));
+    }
+
+    @GetMapping("histories")
+    public ResponseEntity<StreamingResponseBody> histories(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        final boolean csv = FORMAT_CSV.equalsIgnoreCase(format);
+        return export(csv, acceptEncoding, pointService.exportHistories(afterId), "id,userId,amount,type,updateMillis",
+                (writer, history) -> writeHistory(writer, history, csv));
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> export(
+            boolean csv,
+            String acceptEncoding,
+            Stream<T> records,
+            String csvHeader,
+            RecordWriter<T> recordWriter
+    ) {
+        final boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        final StreamingResponseBody body = outputStream -> {
+            final OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (csv) {
+                writer.write(csvHeader);
+                writer.write('\n');
+            }
+            try (records) {
+                final Iterator<T> iterator = records.iterator();
+                while (iterator.hasNext()) {
+                    recordWriter.write(writer, iterator.next());
+                }
+            }
+            writer.flush();
+            if (gzip) {
+                ((GZIPOutputStream) target).finish();
+            }
+        };
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static void writeUserPoint(Writer writer, UserPoint userPoint, boolean csv) throws IOException {
+        if (csv) {
+            writer.write(userPoint.id() + "," + userPoint.point() + "," + userPoint.updateMillis() + "\n");
+            return;
+        }
+        writer.write("{\"id\":" + userPoint.id()
+                + ",\"point\":" + userPoint.point()
+                + ",\"updateMillis\":" + userPoint.updateMillis() + "}\n");
+    }
+
+    private static void writeHistory(Writer writer, PointHistory history, boolean csv) throws IOException {
+        if (csv) {
+            writer.write(history.id() + "," + history.userId() + "," + history.amount() + ","
+                    + history.type() + "," + history.updateMillis() + "\n");
+            return;
+        }
+        writer.write("{\"id\":" + history.id()
+                + ",\"userId\":" + history.userId()
+                + ",\"amount\":" + history.amount()
+                + ",\"type\":\"" + history.type()
+                + "\",\"updateMillis\":" + history.updateMillis() + "}\n");
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter<T> {
+        void write(Writer writer, T record) throws IOException;
+    }
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.interfaces;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * 기동된 서버에 실제 요청을 보내 Tomcat, MVC, 메시지 컨버터, PointService, PointRepositoryImpl 경로를 예열합니다. (point.warmup.enabled)
+ * - ApplicationRunner 는 웹 서버가 시작된 뒤, readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행됩니다.
+ * - 테이블에 기록하지 않습니다. 조회(JSON/바이너리/내역)와 항상 거절되는(409) 충전/사용만 보내므로,
+ *   예약된 유저(point.warmup.user-id)의 잔액이나 내역이 생기지 않고 내보내기/정합성 검사에도 나타나지 않습니다.
+ * - point.warmup.exit=true 이면 예열 후 종료합니다. (cdsArchive 가 실제 요청 경로까지 실행한 뒤 아카이브를 만들도록)
+ * - 테이블 throttle 때문에 요청 1회가 수백 ms 걸리므로, 반복 횟수는 JIT 최적화가 아닌 첫 요청 경로의 클래스 로딩/초기화를 기준으로 정합니다.
+ */
+@Component
+public class PointWarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmupRunner.class);
+
+    private static final long REJECTED_AMOUNT = Long.MAX_VALUE;
+
+    private final boolean enabled;
+    private final int iterations;
+    private final long userId;
+    private final boolean exit;
+    private final ApplicationContext applicationContext;
+
+    public PointWarmupRunner(
+            @Value("${point.warmup.enabled:false}") boolean enabled,
+            @Value("${point.warmup.iterations:1}") int iterations,
+            @Value("${point.warmup.user-id:9223372036854775807}") long userId,
+            @Value("${point.warmup.exit:false}") boolean exit,
+            ApplicationContext applicationContext
+    ) {
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.userId = userId;
+        this.exit = exit;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (enabled && applicationContext instanceof WebServerApplicationContext webServerContext) {
+            warmUp(webServerContext.getWebServer().getPort());
+        }
+        if (exit) {
+            // AppCDS 학습 실행(cdsArchive): 요청 경로 클래스까지 로딩한 뒤 종료해야 아카이브에 포함됩니다.
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    private void warmUp(int port) throws InterruptedException {
+        final long started = System.currentTimeMillis();
+        final String baseUrl = "http://localhost:" + port + "/point/" + userId;
+        final HttpClient client = HttpClient.newHttpClient();
+        final String binary = PointBinaryHttpMessageConverter.MEDIA_TYPE_VALUE;
+        final String json = MediaType.APPLICATION_JSON_VALUE;
+        try {
+            for (int i = 0; i < iterations; i++) {
+                send(client, get(baseUrl, json), HttpStatus.OK);
+                send(client, get(baseUrl, binary), HttpStatus.OK);
+                send(client, get(baseUrl + "/histories", json), HttpStatus.OK);
+                // 최대 잔액을 넘는 금액이라 잔액과 관계없이 검증에서 거절되며, 내역과 잔액은 기록되지 않습니다.
+                send(client, patch(baseUrl + "/charge", json, json,
+                        HttpRequest.BodyPublishers.ofString(String.valueOf(REJECTED_AMOUNT))), HttpStatus.CONFLICT);
+                send(client, patch(baseUrl + "/use", binary, binary,
+                        HttpRequest.BodyPublishers.ofByteArray(PointBinaryCodec.encodeAmount(REJECTED_AMOUNT))), HttpStatus.CONFLICT);
+            }
+        } catch (IOException e) {
+            // 예열 실패로 기동을 중단하지 않습니다.
+            log.warn("Point warm-up failed. url: {}", baseUrl, e);
+            return;
+        }
+        log.info("Point warm-up finished. iterations: {}, elapsed: {}ms", iterations, System.currentTimeMillis() - started);
+    }
+
+    private static HttpRequest patch(String url, String contentType, String accept, HttpRequest.BodyPublisher body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header(HttpHeaders.CONTENT_TYPE, contentType)
+                .header(HttpHeaders.ACCEPT, accept)
+                .method("PATCH", body)
+                .build();
+    }
+
+    private static HttpRequest get(String url, String accept) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header(HttpHeaders.ACCEPT, accept)
+                .GET()
+                .build();
+    }
+
+    private static void send(HttpClient client, HttpRequest request, HttpStatus expected) throws IOException, InterruptedException {
+        final HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != expected.value()) {
+            log.warn("Point warm-up request returned an unexpected status. {} {}: {}", request.method(), request.uri(), response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.interfaces;
+
+import io.hhplus.tdd.point.monitoring.PointTiming;
+import io.hhplus.tdd.point.monitoring.SlowRequestRecorder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * point.timing.sample-rate 비율만큼 요청을 샘플링하여 구간별 소요 시간을 측정합니다.
+ * - 응답 헤더는 {@link ServerTimingResponseAdvice} 에서 기록합니다.
+ * - 비동기 요청(StreamingResponseBody 내보내기 등)은 첫 dispatch 에서 afterCompletion 이 호출되지 않으므로,
+ *   afterConcurrentHandlingStarted 에서 측정을 종료해 Tomcat 스레드에 측정 객체가 남지 않도록 합니다.
+ */
+@Component
+public class ServerTimingInterceptor implements AsyncHandlerInterceptor, DisposableBean {
+
+    private final double sampleRate;
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    public ServerTimingInterceptor(
+            @Value("${point.timing.sample-rate:0.0}") double sampleRate,
+            SlowRequestRecorder slowRequestRecorder
+    ) {
+        this.sampleRate = sampleRate;
+        this.slowRequestRecorder = slowRequestRecorder;
+        if (sampleRate > 0) {
+            PointTiming.register();
+        }
+    }
+
+    /**
+     * 컨텍스트가 닫히면 등록을 해제해, 같은 JVM 의 다른 컨텍스트에 측정이 켜진 채로 남지 않도록 합니다.
+     */
+    @Override
+    public void destroy() {
+        if (sampleRate > 0) {
+            PointTiming.unregister();
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 이전 요청에서 정리되지 못한 측정이 이번 요청에 섞이지 않도록 샘플링 여부와 관계없이 먼저 비웁니다.
+        PointTiming.clear();
+        if (sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            PointTiming.begin(request.getMethod() + " " + request.getRequestURI());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        finish();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        finish();
+    }
+
+    private void finish() {
+        final PointTiming timing = PointTiming.end();
+        if (timing != null) {
+            slowRequestRecorder.record(timing);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.interfaces;
+
+import io.hhplus.tdd.point.monitoring.PointTiming;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 샘플링된 요청의 응답 본문을 쓰기 직전에 Server-Timing 헤더를 추가합니다.
+ */
+@ControllerAdvice(assignableTypes = PointController.class)
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        final PointTiming timing = PointTiming.current();
+        if (timing != null) {
+            response.getHeaders().add(SERVER_TIMING, timing.toServerTiming());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.interfaces;
+
+public record TransferRequest(
+        long fromId,
+        long toId,
+        long amount
+) {
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.monitoring;
+
+import io.hhplus.tdd.point.domain.PointReconciler;
+import io.hhplus.tdd.point.domain.ReconciliationReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 정합성 검사 (/actuator/pointreconciliation)
+ * - GET : 불일치만 보고하며, 잔액을 변경하지 않습니다.
+ * - 재기록은 {@link PointReconciliationRebuildEndpoint} 를 명시적으로 켠 경우에만 가능합니다.
+ */
+@Component
+@Endpoint(id = "pointreconciliation")
+public class PointReconciliationEndpoint {
+
+    private final PointReconciler pointReconciler;
+
+    public PointReconciliationEndpoint(PointReconciler pointReconciler) {
+        this.pointReconciler = pointReconciler;
+    }
+
+    @ReadOperation
+    public ReconciliationReport check() {
+        return pointReconciler.reconcile(false);
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.monitoring;
+
+import io.hhplus.tdd.point.domain.PointReconciler;
+import io.hhplus.tdd.point.domain.ReconciliationReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 불일치 잔액 재기록 (/actuator/pointreconciliationrebuild)
+ * - POST : 불일치 잔액을 내역 합계로 다시 기록합니다.
+ * - 잔액을 변경하므로 point.reconciliation.rebuild-enabled=true 일 때만 등록되며,
+ *   웹으로 노출하려면 management.endpoints.web.exposure.include 에도 추가해야 합니다. (기본 설정은 노출하지 않음)
+ */
+@Component
+@Endpoint(id = "pointreconciliationrebuild")
+@ConditionalOnProperty(name = "point.reconciliation.rebuild-enabled", havingValue = "true")
+public class PointReconciliationRebuildEndpoint {
+
+    private final PointReconciler pointReconciler;
+
+    public PointReconciliationRebuildEndpoint(PointReconciler pointReconciler) {
+        this.pointReconciler = pointReconciler;
+    }
+
+    @WriteOperation
+    public ReconciliationReport rebuild() {
+        return pointReconciler.reconcile(true);
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 구간별 소요 시간 측정
+ * - 샘플링된 요청만 스레드에 측정 객체가 바인딩되며, 그 외 요청에서는 start/stop 이 아무 일도 하지 않습니다.
+ * - 샘플링이 꺼져 있으면 ThreadLocal 조회 없이 volatile 플래그 확인만 수행합니다.
+ */
+public final class PointTiming {
+
+    /**
+     * 측정 구간
+     * - LOCK : PointService 락 대기
+     * - SELECT : 유저 포인트/내역 조회
+     * - HISTORY : 포인트 내역 저장
+     * - UPDATE : 유저 포인트 저장
+     */
+    public enum Phase {
+        LOCK("lock"), SELECT("select"), HISTORY("history"), UPDATE("update");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+
+        public String metric() {
+            return metric;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<PointTiming> CURRENT = new ThreadLocal<>();
+
+    private static int samplers;
+    private static volatile boolean enabled;
+
+    private final String name;
+    private final long startedNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[PHASES.length];
+
+    private PointTiming(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 요청을 샘플링하는 쪽(ServerTimingInterceptor)을 등록합니다.
+     * - 한 JVM 에 컨텍스트가 여러 개 떠 있어도 서로의 설정을 덮어쓰지 않도록, 등록된 쪽이 하나라도 있으면 측정합니다.
+     */
+    public static synchronized void register() {
+        samplers++;
+        enabled = true;
+    }
+
+    /**
+     * 등록을 해제합니다. 마지막 등록이 해제되면 측정을 끕니다.
+     */
+    public static synchronized void unregister() {
+        if (samplers > 0) {
+            samplers--;
+        }
+        enabled = samplers > 0;
+    }
+
+    /**
+     * 현재 스레드에서 측정을 시작합니다.
+     */
+    public static PointTiming begin(String name) {
+        final PointTiming timing = new PointTiming(name);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * 현재 스레드의 측정을 종료하고 반환합니다. 측정 중이 아니면 null 을 반환합니다.
+     */
+    public static PointTiming end() {
+        final PointTiming timing = CURRENT.get();
+        if (timing != null) {
+            CURRENT.remove();
+        }
+        return timing;
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 측정을 기록하지 않고 버립니다.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static PointTiming current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    /**
+     * 구간 시작 시각을 반환합니다. 측정 중이 아니면 0 을 반환합니다.
+     */
+    public static long start() {
+        if (!enabled || CURRENT.get() == null) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    public static void stop(Phase phase, long started) {
+        if (started == 0L) {
+            return;
+        }
+        final PointTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.phaseNanos[phase.ordinal()] += System.nanoTime() - started;
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    public Map<String, Double> phaseMillis() {
+        final Map<String, Double> millis = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            millis.put(phase.metric(), toMillis(phaseNanos[phase.ordinal()]));
+        }
+        return millis;
+    }
+
+    /**
+     * Server-Timing 헤더 값 (예: lock;dur=0.012, select;dur=120.5, ..., total;dur=300.1)
+     */
+    public String toServerTiming() {
+        final StringBuilder header = new StringBuilder();
+        for (Phase phase : PHASES) {
+            header.append(phase.metric()).append(";dur=").append(toMillis(phaseNanos[phase.ordinal()])).append(", ");
+        }
+        return header.append("total;dur=").append(toMillis(elapsedNanos())).toString();
+    }
+
+    static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 최근 샘플링된 요청 중 느린 요청의 구간별 소요 시간 조회 (/actuator/pointtiming)
+ */
+@Component
+@Endpoint(id = "pointtiming")
+public class PointTimingEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    public PointTimingEndpoint(SlowRequestRecorder slowRequestRecorder) {
+        this.slowRequestRecorder = slowRequestRecorder;
+    }
+
+    @ReadOperation
+    public List<SlowRequestRecorder.Entry> slowest(@Nullable Integer limit) {
+        return slowRequestRecorder.slowest(limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 샘플링된 요청의 구간별 소요 시간을 고정 크기 링 버퍼에 보관합니다.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    public record Entry(
+            String request,
+            double totalMillis,
+            Map<String, Double> phaseMillis,
+            long recordedMillis
+    ) {
+    }
+
+    private final AtomicReferenceArray<Entry> buffer;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public SlowRequestRecorder(@Value("${point.timing.buffer-size:128}") int bufferSize) {
+        this.buffer = new AtomicReferenceArray<>(Math.max(1, bufferSize));
+    }
+
+    public void record(PointTiming timing) {
+        final Entry entry = new Entry(
+                timing.name(),
+                PointTiming.toMillis(timing.elapsedNanos()),
+                timing.phaseMillis(),
+                System.currentTimeMillis()
+        );
+        buffer.set((int) (cursor.getAndIncrement() % buffer.length()), entry);
+    }
+
+    /**
+     * 링 버퍼에 남아있는 요청을 느린 순으로 반환합니다.
+     */
+    public List<Entry> slowest(int limit) {
+        final List<Entry> entries = new ArrayList<>(buffer.length());
+        for (int i = 0; i < buffer.length(); i++) {
+            final Entry entry = buffer.get(i);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingDouble(Entry::totalMillis).reversed());
+        return entries.subList(0, Math.min(limit, entries.size()));
+    }
+}
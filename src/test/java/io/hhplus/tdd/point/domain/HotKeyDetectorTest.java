@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotKeyDetectorTest {
+
+    @Test
+    void 경합_횟수가_임계치를_넘으면_hot_으로_전환된다() {
+        HotKeyDetector detector = new HotKeyDetector(4, 10, 60_000);
+
+        for (int i = 0; i < 9; i++) {
+            detector.recordContention(1L);
+        }
+        assertFalse(detector.isHot(1L));
+
+        detector.recordContention(1L);
+        assertTrue(detector.isHot(1L));
+        assertFalse(detector.isHot(2L));
+    }
+
+    @Test
+    void 경합이_줄어들면_다시_일반_처리로_돌아간다() throws InterruptedException {
+        HotKeyDetector detector = new HotKeyDetector(4, 10, 20);
+        for (int i = 0; i < 10; i++) {
+            detector.recordContention(1L);
+        }
+        assertTrue(detector.isHot(1L));
+
+        Thread.sleep(100);
+
+        assertFalse(detector.isHot(1L));
+    }
+
+    @Test
+    void 후보는_경합이_많은_상위_topK_유저만_유지한다() {
+        HotKeyDetector detector = new HotKeyDetector(2, 10, 60_000);
+        for (long id = 1; id <= 3; id++) {
+            for (int i = 0; i < id * 10; i++) {
+                detector.recordContention(id);
+            }
+        }
+
+        List<HotKey> hotKeys = detector.hotKeys();
+        assertEquals(2, hotKeys.size());
+        assertEquals(3L, hotKeys.get(0).userId());
+        assertEquals(2L, hotKeys.get(1).userId());
+        assertTrue(hotKeys.get(0).hot());
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 테이블 throttle 없이 동작하는 스레드 안전한 메모리 저장소 (동시성/부하 테스트용)
+ */
+class InMemoryPointRepository implements PointRepository {
+
+    private final Map<Long, UserPoint> points = new ConcurrentHashMap<>();
+    private final Queue<PointHistory> histories = new ConcurrentLinkedQueue<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        points.put(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public PointHistory insertHistory(long id, long amount, TransactionType type, long updateMillis) {
+        PointHistory history = new PointHistory(cursor.getAndIncrement(), id, amount, type, updateMillis);
+        histories.add(history);
+        return history;
+    }
+
+    @Override
+    public UserPoint point(long id) {
+        return points.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public List<PointHistory> getUserHistory(long id) {
+        return histories.stream().filter(history -> history.userId() == id).toList();
+    }
+
+    @Override
+    public List<PointHistory> getUserHistory(long id, long from, long to) {
+        return histories.stream()
+                .filter(history -> history.userId() == id)
+                .filter(history -> history.updateMillis() >= from && history.updateMillis() <= to)
+                .toList();
+    }
+
+    @Override
+    public List<PointHistory> getHistories(long from, long to) {
+        return histories.stream()
+                .filter(history -> history.updateMillis() >= from && history.updateMillis() <= to)
+                .toList();
+    }
+
+    @Override
+    public Stream<UserPoint> streamPoints() {
+        return points.values().stream();
+    }
+
+    @Override
+    public Stream<PointHistory> streamHistories(long afterId) {
+        return histories.stream().filter(history -> history.id() > afterId);
+    }
+
+    List<PointHistory> allHistories() {
+        return new ArrayList<>(histories);
+    }
+}
@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointReconcilerTest {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int OPERATIONS = 200_000;
+
+    private InMemoryPointRepository pointRepository;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = new InMemoryPointRepository();
+        pointService = new PointService(pointRepository);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < OPERATIONS; i++) {
+            long id = random.nextLong(1, USER_COUNT + 1);
+            if (random.nextBoolean()) {
+                pointService.charge(id, random.nextLong(1, 100));
+            } else if (pointService.point(id).point() > 0) {
+                pointService.use(id, 1);
+            }
+        }
+    }
+
+    @Test
+    void 잔액과_내역이_일치하면_불일치가_없다() {
+        try (PointReconciler reconciler = new PointReconciler(pointRepository, pointService, 4)) {
+            ReconciliationReport report = reconciler.reconcile(false);
+
+            assertEquals(pointRepository.allHistories().size(), report.scannedHistories());
+            assertTrue(report.drifts().isEmpty());
+            assertFalse(report.rebuilt());
+        }
+    }
+
+    @Test
+    void 잔액이_내역과_다르면_불일치를_보고하고_재기록할_수_있다() {
+        long expectedPoint = pointService.point(1L).point();
+        pointRepository.insertOrUpdate(1L, expectedPoint + 500);
+
+        try (PointReconciler reconciler = new PointReconciler(pointRepository, pointService, 4)) {
+            ReconciliationReport checked = reconciler.reconcile(false);
+            assertEquals(1, checked.drifts().size());
+            assertEquals(new PointDrift(1L, expectedPoint, expectedPoint + 500), checked.drifts().get(0));
+            assertEquals(expectedPoint + 500, pointService.point(1L).point());
+
+            ReconciliationReport rebuilt = reconciler.reconcile(true);
+            assertTrue(rebuilt.rebuilt());
+            assertEquals(expectedPoint, pointService.point(1L).point());
+            assertTrue(reconciler.reconcile(false).drifts().isEmpty());
+        }
+    }
+
+    @Test
+    void 종료하면_전용_풀의_워커_스레드도_종료된다() throws InterruptedException {
+        PointReconciler reconciler = new PointReconciler(pointRepository, pointService, 2);
+        reconciler.reconcile(false);
+
+        reconciler.close();
+
+        assertTrue(reconciler.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 병렬도와_관계없이_같은_결과를_보고한다() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+            try (PointReconciler reconciler = new PointReconciler(pointRepository, pointService, parallelism)) {
+                ReconciliationReport report = reconciler.reconcile(false);
+
+                assertEquals(pointRepository.allHistories().size(), report.scannedHistories());
+                assertEquals(USER_COUNT, report.checkedUsers());
+                assertTrue(report.drifts().isEmpty());
+            }
+        }
+    }
+
+    // 내역은 있지만 잔액이 기록되지 않은 유저와, 내역 없이 잔액만 있는 유저도 불일치로 보고합니다.
+    @Test
+    void 잔액_또는_내역이_한쪽에만_있어도_불일치를_보고한다() {
+        long missingPointId = USER_COUNT + 1L;
+        long missingHistoryId = USER_COUNT + 2L;
+        pointRepository.insertHistory(missingPointId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointRepository.insertOrUpdate(missingHistoryId, 300L);
+
+        try (PointReconciler reconciler = new PointReconciler(pointRepository, pointService, 4)) {
+            List<PointDrift> drifts = reconciler.reconcile(false).drifts();
+
+            assertEquals(2, drifts.size());
+            assertTrue(drifts.contains(new PointDrift(missingPointId, 100L, 0L)));
+            assertTrue(drifts.contains(new PointDrift(missingHistoryId, 0L, 300L)));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 충전/사용/조회 1회당 할당 바이트 예산 테스트
+ * - 스레드 할당 카운터(com.sun.management.ThreadMXBean)로 측정합니다.
+ * - 테이블 throttle 의 영향을 받지 않도록 메모리 저장소를 사용합니다.
+ * - 예산은 시스템 프로퍼티(allocation.budget.*)로 설정하며, build.gradle.kts 의 allocationTest 태스크에서 실행됩니다.
+ */
+@Tag("allocation")
+class PointServiceAllocationTest {
+
+    private static final long USER_ID = 1_000L;
+    private static final int OPERATIONS = 5_000;
+    private static final int WARMUP_ROUNDS = 20;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointService = new PointService(new ThrottleFreePointRepository());
+
+        // JIT 컴파일 이후의 정상 상태를 측정하기 위해 충분히 예열합니다.
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            chargeAll();
+            useAll();
+            pointAll();
+        }
+    }
+
+    @Test
+    void 포인트_충전_1회당_할당량이_예산을_넘지_않는다() {
+        long bytesPerOperation = measure(this::chargeAll);
+        useAll();
+
+        assertWithinBudget("charge", bytesPerOperation, Long.getLong("allocation.budget.charge", 96));
+    }
+
+    @Test
+    void 포인트_사용_1회당_할당량이_예산을_넘지_않는다() {
+        chargeAll();
+        long bytesPerOperation = measure(this::useAll);
+
+        assertWithinBudget("use", bytesPerOperation, Long.getLong("allocation.budget.use", 96));
+    }
+
+    @Test
+    void 포인트_조회_1회당_할당량이_예산을_넘지_않는다() {
+        long bytesPerOperation = measure(this::pointAll);
+
+        assertWithinBudget("point", bytesPerOperation, Long.getLong("allocation.budget.point", 8));
+    }
+
+    private void chargeAll() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            pointService.charge(USER_ID, 1);
+        }
+    }
+
+    private void useAll() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            pointService.use(USER_ID, 1);
+        }
+    }
+
+    private void pointAll() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            pointService.point(USER_ID);
+        }
+    }
+
+    private long measure(Runnable operations) {
+        long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        operations.run();
+        long after = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        return (after - before) / OPERATIONS;
+    }
+
+    private void assertWithinBudget(String operation, long bytesPerOperation, long budget) {
+        System.out.println(operation + ": " + bytesPerOperation + " bytes/op (budget " + budget + ")");
+        assertTrue(bytesPerOperation <= budget,
+                operation + " allocates " + bytesPerOperation + " bytes/op, budget is " + budget);
+    }
+
+    /**
+     * 저장소 자체의 할당은 레코드 생성으로만 한정한 throttle 없는 메모리 저장소
+     */
+    private static class ThrottleFreePointRepository implements PointRepository {
+
+        private final UserPoint[] points = new UserPoint[(int) USER_ID + 1];
+        private long cursor = 1;
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            points[(int) id] = userPoint;
+            return userPoint;
+        }
+
+        @Override
+        public PointHistory insertHistory(long id, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(cursor++, id, amount, type, updateMillis);
+        }
+
+        @Override
+        public UserPoint point(long id) {
+            UserPoint userPoint = points[(int) id];
+            return userPoint != null ? userPoint : UserPoint.empty(id);
+        }
+
+        @Override
+        public List<PointHistory> getUserHistory(long id) {
+            return List.of();
+        }
+
+        @Override
+        public List<PointHistory> getUserHistory(long id, long from, long to) {
+            return List.of();
+        }
+
+        @Override
+        public List<PointHistory> getHistories(long from, long to) {
+            return List.of();
+        }
+
+        @Override
+        public Stream<UserPoint> streamPoints() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Stream<PointHistory> streamHistories(long afterId) {
+            return Stream.empty();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointServiceHotKeyTest {
+
+    private static final long HOT_USER_ID = 1L;
+
+    private final AtomicInteger balanceWrites = new AtomicInteger();
+
+    // 테이블 조회 지연을 흉내 내어 락 경합을 만들고, 잔액 저장 횟수를 셉니다.
+    private final InMemoryPointRepository pointRepository = new InMemoryPointRepository() {
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            balanceWrites.incrementAndGet();
+            return super.insertOrUpdate(id, amount);
+        }
+
+        @Override
+        public UserPoint point(long id) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.point(id);
+        }
+    };
+
+    private final PointService pointService = new PointService(pointRepository);
+
+    @Test
+    void 경합이_잦은_유저는_hot_으로_탐지되고_일괄_처리되어도_잔액과_내역이_일치한다() throws InterruptedException {
+        final int threadCount = 16;
+        final int operationsPerThread = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        AtomicInteger rejected = new AtomicInteger();
+
+        for (int t = 0; t < threadCount; t++) {
+            final boolean charge = t % 2 == 0;
+            executorService.execute(() -> {
+                for (int i = 0; i < operationsPerThread; i++) {
+                    try {
+                        if (charge) {
+                            pointService.charge(HOT_USER_ID, 2);
+                        } else {
+                            pointService.use(HOT_USER_ID, 1);
+                        }
+                    } catch (RuntimeException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+
+        assertTrue(pointService.hotKeys().stream().anyMatch(hotKey -> hotKey.userId() == HOT_USER_ID));
+
+        long expectedPoint = pointRepository.getUserHistory(HOT_USER_ID).stream()
+                .mapToLong(PointReconciler::signedAmount)
+                .sum();
+        assertEquals(expectedPoint, pointService.point(HOT_USER_ID).point());
+        int applied = threadCount * operationsPerThread - rejected.get();
+        assertEquals(applied, pointRepository.getUserHistory(HOT_USER_ID).size());
+        // 일괄 처리된 요청은 잔액을 한 번만 저장하므로, 저장 횟수가 반영된 요청 수보다 적어야 합니다.
+        assertTrue(balanceWrites.get() < applied, "balance writes: " + balanceWrites.get() + ", applied: " + applied);
+    }
+
+    // hot 상태에서도 경합을 기록하므로, 부하가 여러 window 동안 이어지면 일반 처리로 돌아가지 않아야 합니다.
+    @Test
+    void 부하가_이어지는_동안에는_hot_상태가_유지된다() throws InterruptedException {
+        pointService.configureHotKeyDetector(16, 64, 100);
+        final int threadCount = 16;
+        final long loadNanos = TimeUnit.MILLISECONDS.toNanos(800);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        for (int t = 0; t < threadCount; t++) {
+            final boolean charge = t % 2 == 0;
+            executorService.execute(() -> {
+                while (running.get()) {
+                    try {
+                        if (charge) {
+                            pointService.charge(HOT_USER_ID, 2);
+                        } else {
+                            pointService.use(HOT_USER_ID, 1);
+                        }
+                    } catch (RuntimeException ignored) {
+                        // 잔액 부족/최대 잔액 초과는 이 테스트의 관심사가 아닙니다.
+                    }
+                }
+            });
+        }
+
+        long started = System.nanoTime();
+        boolean becameHot = false;
+        int cooledWhileLoaded = 0;
+        while (System.nanoTime() - started < loadNanos) {
+            boolean hot = pointService.hotKeys().stream()
+                    .anyMatch(hotKey -> hotKey.userId() == HOT_USER_ID && hotKey.hot());
+            if (hot) {
+                becameHot = true;
+            } else if (becameHot) {
+                cooledWhileLoaded++;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        running.set(false);
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+
+        assertTrue(becameHot);
+        assertEquals(0, cooledWhileLoaded);
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointServiceLockTest {
+
+    // 이전 1024 스트라이프 구조에서 같은 락을 공유하던 ID 조합
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 1_025L;
+
+    @Test
+    void 다른_유저의_충전은_처리_중인_유저의_락을_기다리지_않는다() throws Exception {
+        CountDownLatch selected = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PointService pointService = new PointService(new InMemoryPointRepository() {
+            @Override
+            public UserPoint point(long id) {
+                if (id == USER_ID) {
+                    selected.countDown();
+                    await(release);
+                }
+                return super.point(id);
+            }
+        });
+
+        CompletableFuture<UserPoint> blocked = CompletableFuture.supplyAsync(() -> pointService.charge(USER_ID, 100L));
+        assertTrue(selected.await(5, TimeUnit.SECONDS));
+
+        try {
+            CompletableFuture<UserPoint> other = CompletableFuture.supplyAsync(() -> pointService.charge(OTHER_USER_ID, 100L));
+            assertEquals(100L, other.get(5, TimeUnit.SECONDS).point());
+            assertFalse(blocked.isDone());
+        } finally {
+            release.countDown();
+        }
+        assertEquals(100L, blocked.get(5, TimeUnit.SECONDS).point());
+    }
+
+    @Test
+    void 다른_유저의_변경은_버전을_올리지_않는다() {
+        PointService pointService = new PointService(new InMemoryPointRepository());
+        pointService.charge(USER_ID, 100L);
+        long version = pointService.version(USER_ID);
+
+        pointService.charge(OTHER_USER_ID, 100L);
+
+        assertEquals(version, pointService.version(USER_ID));
+        assertEquals(1L, pointService.version(OTHER_USER_ID));
+    }
+
+    @Test
+    void 락_테이블이_확장되어도_유저마다_같은_락을_반환한다() {
+        UserLockTable table = new UserLockTable();
+        assertNull(table.find(USER_ID));
+
+        UserLockTable.UserLock lock = table.get(USER_ID);
+        for (long id = 2; id <= 10_000; id++) {
+            table.get(id);
+        }
+
+        assertSame(lock, table.get(USER_ID));
+        assertSame(lock, table.find(USER_ID));
+        assertNotSame(lock, table.get(OTHER_USER_ID));
+        assertNull(table.find(10_001L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
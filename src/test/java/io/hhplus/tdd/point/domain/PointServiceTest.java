@@ -1,6 +1,9 @@
 package io.hhplus.tdd.point.domain;
 
+import io.hhplus.tdd.point.exception.InvalidHistoryIdException;
+import io.hhplus.tdd.point.exception.InvalidTimeRangeException;
 import io.hhplus.tdd.point.exception.InvalidUserIdException;
+import io.hhplus.tdd.point.exception.PointErrorCode;
 import io.hhplus.tdd.point.exception.PointValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -108,6 +111,64 @@ class PointServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("[history] 유저 포인트 충전/이용 내역 기간 조회 테스트")
+    class HistoryRangeTest {
+        @Test
+        void 시작_시각이_종료_시각보다_늦을_경우_예외_처리() {
+            // When & Then
+            assertThrows(InvalidTimeRangeException.class, () -> {
+                pointService.history(1L, 200L, 100L);
+            });
+
+            verify(pointRepository, never()).getUserHistory(anyLong(), anyLong(), anyLong());
+        }
+
+        @Test
+        void 유효한_기간일_경우_유저_내역을_기간으로_조회() {
+            // Given
+            long validId = 1L;
+            List<PointHistory> mockHistory = List.of(new PointHistory(1L, validId, 100, CHARGE, 150L));
+            when(pointRepository.getUserHistory(validId, 100L, 200L)).thenReturn(mockHistory);
+
+            // When
+            List<PointHistory> result = pointService.history(validId, 100L, 200L);
+
+            // Then
+            assertEquals(mockHistory, result);
+            verify(pointRepository, never()).getUserHistory(validId);
+        }
+
+        @Test
+        void 유효한_기간일_경우_전체_유저_내역을_기간으로_조회() {
+            // Given
+            List<PointHistory> mockHistory = List.of(
+                    new PointHistory(1L, 1L, 100, CHARGE, 150L),
+                    new PointHistory(2L, 2L, 50, USE, 160L)
+            );
+            when(pointRepository.getHistories(100L, 200L)).thenReturn(mockHistory);
+
+            // When
+            List<PointHistory> result = pointService.histories(100L, 200L);
+
+            // Then
+            assertEquals(2, result.size());
+            verify(pointRepository, times(1)).getHistories(100L, 200L);
+        }
+
+        @Test
+        void 내보내기_이어받기_id_가_음수일_경우_예외_처리() {
+            // When & Then
+            InvalidHistoryIdException exception = assertThrows(InvalidHistoryIdException.class, () -> {
+                pointService.exportHistories(-1L);
+            });
+
+            assertEquals(PointErrorCode.INVALID_HISTORY_ID, exception.code());
+            assertEquals("Invalid history ID: -1", exception.getMessage());
+            verify(pointRepository, never()).streamHistories(anyLong());
+        }
+    }
+
     @Nested
     @DisplayName("[charge] 유저 포인트 충전 기능 테스트")
     class ChargeTest {
@@ -151,7 +212,9 @@ class PointServiceTest {
             // Given
             long validId = 1L;
             long amount = 100L;
-            UserPoint initialPoint = new UserPoint(validId, 200, System.currentTimeMillis());
+            // 마지막 잔액 변경이 일주일 전인 유저
+            long lastUpdateMillis = System.currentTimeMillis() - 7 * 24 * 60 * 60 * 1000L;
+            UserPoint initialPoint = new UserPoint(validId, 200, lastUpdateMillis);
             UserPoint chargedPoint = new UserPoint(validId, 300, System.currentTimeMillis());
 
             // Mocking repository behaviors
@@ -159,7 +222,9 @@ class PointServiceTest {
             when(pointRepository.insertOrUpdate(validId, chargedPoint.point())).thenReturn(chargedPoint);
 
             // When
+            long before = System.currentTimeMillis();
             UserPoint result = pointService.charge(validId, amount);
+            long after = System.currentTimeMillis();
 
             // Then
             assertNotNull(result);
@@ -167,7 +232,9 @@ class PointServiceTest {
             assertEquals(300, result.point()); // initialPoint의 포인트 200 + 충전 포인트 100
             verify(pointRepository, times(1)).point(validId);
             verify(pointRepository, times(1)).insertOrUpdate(validId, chargedPoint.point());
-            verify(pointRepository, times(1)).insertHistory(validId, amount, TransactionType.CHARGE, result.updateMillis());
+            // 내역은 이전 잔액의 갱신 시각이 아니라 충전 시각으로 기록되어야 합니다.
+            verify(pointRepository, times(1)).insertHistory(eq(validId), eq(amount), eq(TransactionType.CHARGE),
+                    longThat(millis -> millis >= before && millis <= after));
         }
 
         @Test
@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.domain;
+
+import io.hhplus.tdd.point.exception.InvalidUserIdException;
+import io.hhplus.tdd.point.exception.PointValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointServiceTransferTest {
+
+    private static final int USER_COUNT = 10;
+    private static final long INITIAL_POINT = 5_000L;
+
+    private InMemoryPointRepository pointRepository;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = new InMemoryPointRepository();
+        pointService = new PointService(pointRepository);
+        LongStream.rangeClosed(1, USER_COUNT).forEach(id -> pointService.charge(id, INITIAL_POINT));
+    }
+
+    @Test
+    void 포인트_선물_시_보낸_유저는_차감되고_받은_유저는_충전된다() {
+        PointTransfer transfer = pointService.transfer(1L, 2L, 1_000L);
+
+        assertEquals(4_000L, transfer.from().point());
+        assertEquals(6_000L, transfer.to().point());
+        assertEquals(4_000L, pointService.point(1L).point());
+        assertEquals(6_000L, pointService.point(2L).point());
+    }
+
+    @Test
+    void 잔액이_부족하면_두_유저_모두_변경되지_않는다() {
+        int historyCount = pointRepository.allHistories().size();
+
+        assertThrows(PointValidationException.class, () -> pointService.transfer(1L, 2L, INITIAL_POINT + 1));
+
+        assertEquals(INITIAL_POINT, pointService.point(1L).point());
+        assertEquals(INITIAL_POINT, pointService.point(2L).point());
+        assertEquals(historyCount, pointRepository.allHistories().size());
+    }
+
+    @Test
+    void 받는_유저의_최대_잔액을_넘으면_두_유저_모두_변경되지_않는다() {
+        pointService.charge(2L, 5_000L);
+
+        assertThrows(PointValidationException.class, () -> pointService.transfer(1L, 2L, 1L));
+
+        assertEquals(INITIAL_POINT, pointService.point(1L).point());
+        assertEquals(10_000L, pointService.point(2L).point());
+    }
+
+    @Test
+    void 자기_자신에게_선물하면_예외_처리() {
+        assertThrows(InvalidUserIdException.class, () -> pointService.transfer(1L, 1L, 100L));
+    }
+
+    // 임의의 유저 쌍으로 양방향 선물을 동시에 수행해도 데드락 없이 전체 잔액의 합이 유지되는지 확인합니다.
+    // 라운드마다 모든 스레드가 barrier 에서 멈춘 시점(진행 중인 선물이 없는 시점)에도 합계를 검사합니다.
+    @Test
+    void 동시에_임의의_유저_간_선물을_수행해도_전체_잔액의_합은_변하지_않는다() throws InterruptedException {
+        final int threadCount = 8;
+        final int rounds = 20;
+        final int transfersPerRound = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> roundTotals = new CopyOnWriteArrayList<>();
+        CyclicBarrier barrier = new CyclicBarrier(threadCount, () -> roundTotals.add(totalPoint()));
+
+        for (int t = 0; t < threadCount; t++) {
+            executorService.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int round = 0; round < rounds; round++) {
+                    transferRandomly(random, transfersPerRound, rejected);
+                    try {
+                        barrier.await(30, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        }
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS), "transfers did not finish (deadlock?)");
+
+        System.out.println("rejected transfers: " + rejected.get());
+        assertEquals(rounds, roundTotals.size());
+        for (long total : roundTotals) {
+            assertEquals(INITIAL_POINT * USER_COUNT, total);
+        }
+        assertEquals(INITIAL_POINT * USER_COUNT, totalPoint());
+        LongStream.rangeClosed(1, USER_COUNT).forEach(id -> {
+            long balance = pointService.point(id).point();
+            assertTrue(balance >= 0 && balance <= 10_000L);
+        });
+    }
+
+    private void transferRandomly(ThreadLocalRandom random, int transfers, AtomicInteger rejected) {
+        for (int i = 0; i < transfers; i++) {
+            long fromId = random.nextLong(1, USER_COUNT + 1);
+            long toId = random.nextLong(1, USER_COUNT + 1);
+            if (fromId == toId) {
+                continue;
+            }
+            try {
+                pointService.transfer(fromId, toId, random.nextLong(1, 1_000));
+            } catch (PointValidationException e) {
+                rejected.incrementAndGet();
+            }
+        }
+    }
+
+    private long totalPoint() {
+        return LongStream.rangeClosed(1, USER_COUNT).map(id -> pointService.point(id).point()).sum();
+    }
+}
@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point.domain;
+
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointValidationException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 거절된 요청(잔액 부족) 비용 비교
+ * - before : 스택 트레이스와 메시지를 즉시 만드는 기존 방식의 예외
+ * - after : 스택 트레이스 없이 메시지를 지연 생성하는 PointValidationException
+ * - result : 예외 없이 실패 사유만 반환하는 검증
+ */
+class PointValidationBenchmarkTest {
+
+    private static final int OPERATIONS = 200_000;
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final UserPoint userPoint = new UserPoint(1L, 500L, System.currentTimeMillis());
+
+    @Test
+    void 잔액_부족_응답은_실패_사유와_기존_메시지를_유지한다() {
+        PointValidationException exception = assertThrows(
+                PointValidationException.class, () -> userPoint.use(1_000L));
+
+        assertEquals(PointErrorCode.INSUFFICIENT_BALANCE, exception.code());
+        assertEquals("Insufficient balance: attempted to use: 1000, remaining balance: -500", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(PointErrorCode.INSUFFICIENT_BALANCE, userPoint.validateUse(1_000L));
+    }
+
+    @Test
+    void 최대_잔액_검증은_overflow_되지_않는다() {
+        assertEquals(PointErrorCode.EXCEEDED_MAX_BALANCE, userPoint.validateCharge(Long.MAX_VALUE));
+    }
+
+    // 처리 시간은 환경에 따라 흔들리므로, 거절된 요청 1회당 할당 바이트로 비교합니다. (allocationTest 태스크)
+    @Tag("allocation")
+    @Test
+    void 거절된_요청_1회당_할당량이_예산을_넘지_않는다() {
+        PointService pointService = new PointService(new InMemoryPointRepository());
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            rejectBefore();
+            rejectAfter();
+            rejectResult();
+            rejectService(pointService);
+        }
+
+        long before = measure(this::rejectBefore);
+        long after = measure(this::rejectAfter);
+        long result = measure(this::rejectResult);
+        long service = measure(() -> rejectService(pointService));
+
+        System.out.println("rejected bytes/op - before: " + before
+                + ", after: " + after
+                + ", result: " + result
+                + ", PointService.use: " + service);
+
+        long budget = Long.getLong("allocation.budget.rejected", 64);
+        assertTrue(after <= budget, "UserPoint.use allocates " + after + " bytes/op, budget is " + budget);
+        assertTrue(service <= budget, "PointService.use allocates " + service + " bytes/op, budget is " + budget);
+        assertEquals(0L, result);
+    }
+
+    private int rejectBefore() {
+        int rejected = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            try {
+                legacyUse(userPoint, 1_000L);
+            } catch (LegacyValidationException e) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    private int rejectAfter() {
+        int rejected = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            try {
+                userPoint.use(1_000L);
+            } catch (PointValidationException e) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    private int rejectResult() {
+        int rejected = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (userPoint.validateUse(1_000L) != null) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    private int rejectService(PointService pointService) {
+        int rejected = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            try {
+                pointService.use(1L, 1_000L);
+            } catch (PointValidationException e) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    private long measure(RejectLoop loop) {
+        long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        int rejected = loop.run();
+        long after = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        assertEquals(OPERATIONS, rejected);
+        return (after - before) / OPERATIONS;
+    }
+
+    // 변경 전 UserPoint.use 와 같은 방식으로 예외를 생성합니다.
+    private static UserPoint legacyUse(UserPoint point, long amount) {
+        long remainingPoint = point.point() - amount;
+        if (remainingPoint < 0) {
+            throw new LegacyValidationException("Insufficient balance: attempted to use: " + amount + ", remaining balance: " + remainingPoint);
+        }
+        return new UserPoint(point.id(), remainingPoint, point.updateMillis());
+    }
+
+    private static class LegacyValidationException extends RuntimeException {
+        LegacyValidationException(String message) {
+            super(message);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RejectLoop {
+        int run();
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.infra;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointDrift;
+import io.hhplus.tdd.point.domain.PointReconciler;
+import io.hhplus.tdd.point.domain.PointService;
+import io.hhplus.tdd.point.domain.ReconciliationReport;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PointRepositoryImpl 기반 정합성 검사
+ * - 잔액 테이블 조회(selectById)는 최대 200ms throttle 이 걸리므로, 검사 중 조회 횟수와 막힘 여부를 확인합니다.
+ * - 잔액 테이블은 조회 횟수를 세기 위해 throttle 없는 메모리 테이블로 바꾸고, 내역 테이블은 그대로 사용합니다.
+ */
+class PointReconcilerRepositoryTest {
+
+    private static final int USER_COUNT = 8;
+    private static final long AMOUNT = 100L;
+
+    private final AtomicInteger selected = new AtomicInteger();
+    private PointRepositoryImpl pointRepository;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = new PointRepositoryImpl();
+        pointRepository.userPointTable = new CountingUserPointTable();
+        pointService = new PointService(pointRepository);
+
+        for (long id = 1; id <= USER_COUNT; id++) {
+            pointRepository.insertHistory(id, AMOUNT, TransactionType.CHARGE, System.currentTimeMillis());
+            pointRepository.insertOrUpdate(id, AMOUNT);
+        }
+        selected.set(0);
+    }
+
+    // 변경 전에는 유저마다 selectById(최대 200ms)를 호출해, 유저 수 / 병렬도 만큼 검사 시간이 늘어났습니다.
+    @Test
+    void 잔액과_내역이_일치하면_유저별_잔액_테이블을_조회하지_않는다() {
+        try (PointReconciler reconciler = new PointReconciler(pointRepository, pointService, 2)) {
+            ReconciliationReport report = reconciler.reconcile(false);
+
+            assertEquals(USER_COUNT, report.checkedUsers());
+            assertTrue(report.drifts().isEmpty());
+            assertEquals(0, selected.get());
+        }
+    }
+
+    @Test
+    void 불일치로_보이는_유저만_잔액_테이블에서_다시_확인한다() {
+        pointRepository.insertOrUpdate(1L, AMOUNT + 500);
+
+        try (PointReconciler reconciler = new PointReconciler(pointRepository, pointService, 2)) {
+            ReconciliationReport report = reconciler.reconcile(false);
+
+            assertEquals(List.of(new PointDrift(1L, AMOUNT, AMOUNT + 500)), report.drifts());
+            assertEquals(1, selected.get());
+        }
+    }
+
+    // 재확인은 테이블 조회로 막히므로, 병렬도가 1 이어도 막힌 동안 다른 유저의 재확인이 진행되어야 합니다. (ManagedBlocker)
+    @Test
+    void 재확인이_테이블_조회로_막혀도_다른_유저의_재확인이_진행된다() {
+        pointRepository.insertOrUpdate(1L, AMOUNT + 500);
+        pointRepository.insertOrUpdate(2L, AMOUNT + 500);
+        CountDownLatch bothSelecting = new CountDownLatch(2);
+        AtomicInteger overlapped = new AtomicInteger();
+        ((CountingUserPointTable) pointRepository.userPointTable).onSelect = () -> {
+            bothSelecting.countDown();
+            if (await(bothSelecting)) {
+                overlapped.incrementAndGet();
+            }
+        };
+
+        try (PointReconciler reconciler = new PointReconciler(pointRepository, pointService, 1)) {
+            ReconciliationReport report = reconciler.reconcile(false);
+
+            assertEquals(2, report.drifts().size());
+            assertEquals(2, overlapped.get());
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private class CountingUserPointTable extends UserPointTable {
+
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+        private volatile Runnable onSelect = () -> {
+        };
+
+        @Override
+        public UserPoint selectById(Long id) {
+            selected.incrementAndGet();
+            onSelect.run();
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+}
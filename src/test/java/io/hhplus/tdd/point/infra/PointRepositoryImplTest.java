@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point.infra;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointRepositoryImplTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    private PointRepositoryImpl pointRepository;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = new PointRepositoryImpl();
+        pointRepository.insertHistory(USER_ID, 100L, TransactionType.CHARGE, 1_000L);
+        pointRepository.insertHistory(USER_ID, 200L, TransactionType.USE, 2_000L);
+        pointRepository.insertHistory(USER_ID, 300L, TransactionType.CHARGE, 3_000L);
+        pointRepository.insertHistory(OTHER_USER_ID, 400L, TransactionType.CHARGE, 2_000L);
+    }
+
+    @Test
+    void 기간_조회는_시작과_종료_시각을_모두_포함한다() {
+        assertEquals(List.of(100L, 200L), amounts(pointRepository.getUserHistory(USER_ID, 1_000L, 2_000L)));
+        assertEquals(List.of(200L), amounts(pointRepository.getUserHistory(USER_ID, 1_001L, 2_999L)));
+        assertEquals(List.of(300L), amounts(pointRepository.getUserHistory(USER_ID, 3_000L, 3_000L)));
+    }
+
+    @Test
+    void 유저별_기간_조회는_다른_유저의_내역을_포함하지_않는다() {
+        assertEquals(List.of(400L), amounts(pointRepository.getUserHistory(OTHER_USER_ID, 0L, Long.MAX_VALUE)));
+        assertEquals(List.of(100L, 200L, 300L), amounts(pointRepository.getUserHistory(USER_ID, 0L, Long.MAX_VALUE)));
+        assertTrue(pointRepository.getUserHistory(3L, 0L, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void 전체_기간_조회는_모든_유저의_내역을_시각_순으로_반환한다() {
+        List<PointHistory> histories = pointRepository.getHistories(2_000L, 3_000L);
+
+        assertEquals(List.of(200L, 400L, 300L), amounts(histories));
+        assertTrue(pointRepository.getHistories(3_001L, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void 내보내기를_이어받으면_마지막_id_다음_내역부터_반환한다() {
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(pointRepository.streamHistories(0L).toList()));
+        assertEquals(List.of(3L, 4L), ids(pointRepository.streamHistories(2L).toList()));
+        assertTrue(pointRepository.streamHistories(4L).toList().isEmpty());
+    }
+
+    // 1 번 내역의 인덱스 반영이 늦어지는 동안 2 번을 내보내면, 2 번부터 이어받은 클라이언트는 1 번을 영영 받지 못합니다.
+    @Test
+    void 앞선_id_가_반영되기_전에는_뒤의_내역을_내보내지_않는다() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PointRepositoryImpl repository = new PointRepositoryImpl();
+        repository.pointHistoryTable = new PointHistoryTable() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                PointHistory history = super.insert(userId, amount, type, updateMillis);
+                if (userId == USER_ID) {
+                    inserted.countDown();
+                    await(release);
+                }
+                return history;
+            }
+        };
+
+        CompletableFuture<PointHistory> delayed = CompletableFuture.supplyAsync(
+                () -> repository.insertHistory(USER_ID, 100L, TransactionType.CHARGE, 1_000L));
+        assertTrue(inserted.await(5, TimeUnit.SECONDS));
+        try {
+            repository.insertHistory(OTHER_USER_ID, 200L, TransactionType.CHARGE, 1_000L);
+
+            assertTrue(repository.streamHistories(0L).toList().isEmpty());
+        } finally {
+            release.countDown();
+        }
+        delayed.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1L, 2L), ids(repository.streamHistories(0L).toList()));
+    }
+
+    private static List<Long> ids(List<PointHistory> histories) {
+        return histories.stream().map(PointHistory::id).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Long> amounts(List<PointHistory> histories) {
+        return histories.stream().map(PointHistory::amount).toList();
+    }
+}
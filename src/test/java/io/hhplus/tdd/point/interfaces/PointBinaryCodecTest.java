@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.interfaces;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static io.hhplus.tdd.point.domain.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.domain.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointBinaryCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final int HISTORY_COUNT = 1_000;
+    private static final int ITERATIONS = 2_000;
+
+    private final List<PointHistory> histories = LongStream.rangeClosed(1, HISTORY_COUNT)
+            .mapToObj(i -> new PointHistory(i, 1L, i * 10, i % 2 == 0 ? CHARGE : USE, 1_700_000_000_000L + i))
+            .toList();
+
+    @Test
+    void 유저_포인트를_인코딩_후_디코딩하면_원본과_같다() {
+        UserPoint userPoint = new UserPoint(1L, 5_000L, System.currentTimeMillis());
+
+        byte[] bytes = PointBinaryCodec.encode(userPoint);
+
+        assertEquals(PointBinaryCodec.USER_POINT_SIZE, bytes.length);
+        assertEquals(userPoint, PointBinaryCodec.decodeUserPoint(bytes));
+    }
+
+    @Test
+    void 포인트_내역_목록을_인코딩_후_디코딩하면_원본과_같다() {
+        byte[] bytes = PointBinaryCodec.encode(histories);
+
+        assertEquals(PointBinaryCodec.historiesSize(HISTORY_COUNT), bytes.length);
+        assertEquals(histories, PointBinaryCodec.decodeHistories(bytes));
+    }
+
+    @Test
+    void 충전_금액을_인코딩_후_디코딩하면_원본과_같다() {
+        assertEquals(-1L, PointBinaryCodec.decodeAmount(PointBinaryCodec.encodeAmount(-1L)));
+        assertEquals(Long.MAX_VALUE, PointBinaryCodec.decodeAmount(PointBinaryCodec.encodeAmount(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void 길이가_부족한_페이로드는_예외_처리() {
+        assertThrows(IllegalArgumentException.class, () -> PointBinaryCodec.decodeUserPoint(new byte[10]));
+    }
+
+    @Test
+    void 길이가_남는_페이로드는_예외_처리() {
+        byte[] amount = Arrays.copyOf(PointBinaryCodec.encodeAmount(1L), PointBinaryCodec.AMOUNT_SIZE + 1);
+        byte[] userPoint = Arrays.copyOf(PointBinaryCodec.encode(new UserPoint(1L, 100L, 0L)), PointBinaryCodec.USER_POINT_SIZE + 1);
+        byte[] histories = PointBinaryCodec.encode(this.histories);
+
+        assertThrows(IllegalArgumentException.class, () -> PointBinaryCodec.decodeAmount(amount));
+        assertThrows(IllegalArgumentException.class, () -> PointBinaryCodec.decodeUserPoint(userPoint));
+        assertThrows(IllegalArgumentException.class, () -> PointBinaryCodec.decodeHistories(Arrays.copyOf(histories, histories.length + 1)));
+    }
+
+    // count * 33 이 int 범위를 넘으면 음수가 되어 길이 검사를 통과하고, 거대한 리스트를 할당하던 문제
+    @Test
+    void 페이로드_길이를_넘는_내역_개수는_할당_전에_예외_처리() {
+        byte[] bytes = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F};
+
+        assertEquals(4L + 33L * Integer.MAX_VALUE, PointBinaryCodec.historiesSize(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> PointBinaryCodec.decodeHistories(bytes));
+        assertThrows(IllegalArgumentException.class, () -> PointBinaryCodec.decodeHistories(new byte[]{1, 0, 0, 0}));
+    }
+
+    // JSON 대비 페이로드 크기와 직렬화/역직렬화 비용을 비교합니다.
+    @Test
+    void 바이너리_포맷은_JSON_보다_페이로드가_작다() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(histories);
+        byte[] binary = PointBinaryCodec.encode(histories);
+
+        long jsonNanos = measure(() -> {
+            byte[] bytes = objectMapper.writeValueAsBytes(histories);
+            objectMapper.readValue(bytes, new TypeReference<List<PointHistory>>() {});
+        });
+        long binaryNanos = measure(() -> PointBinaryCodec.decodeHistories(PointBinaryCodec.encode(histories)));
+
+        System.out.println("histories=" + HISTORY_COUNT
+                + ", json: " + json.length + " bytes, " + jsonNanos / ITERATIONS / 1_000 + " us/op"
+                + ", binary: " + binary.length + " bytes, " + binaryNanos / ITERATIONS / 1_000 + " us/op");
+
+        assertTrue(binary.length < json.length);
+    }
+
+    private long measure(ThrowingRunnable runnable) throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            runnable.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runnable.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -2,19 +2,35 @@ package io.hhplus.tdd.point.interfaces;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.point.domain.PointService;
+import io.hhplus.tdd.point.domain.UserPoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -34,6 +50,7 @@ class PointControllerIntegrationTest {
     private PointService pointService;
 
     private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
     private static final long INITIAL_CHARGE_AMOUNT = 100L;
 
     @BeforeEach
@@ -71,6 +88,23 @@ class PointControllerIntegrationTest {
                 .andExpect(jsonPath("$.size()").isNotEmpty());
     }
 
+    // 충전 시각 기준으로 기간 조회가 되는지, 기간 없이 전체 내역을 요청하면 거절되는지 확인합니다.
+    @Test
+    void 전체_유저_내역은_충전_시각_기간으로_조회하고_기간이_없으면_400_응답() throws Exception {
+        final long from = System.currentTimeMillis();
+        pointService.charge(USER_ID, 10L);
+        final long to = System.currentTimeMillis();
+
+        mockMvc.perform(get("/point/histories")
+                        .param("from", String.valueOf(from))
+                        .param("to", String.valueOf(to)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.userId == " + USER_ID + " && @.amount == 10)]").isNotEmpty());
+
+        mockMvc.perform(get("/point/histories"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void 특정_유저의_포인트_충전_기능_성공() throws Exception {
         final long id = USER_ID;
@@ -99,5 +133,230 @@ class PointControllerIntegrationTest {
                 .andExpect(jsonPath("$.updateMillis").isNumber());
     }
 
-}
+    @Test
+    void 바이너리_포맷으로_포인트_충전_및_조회_기능_성공() throws Exception {
+        final long id = USER_ID;
+
+        mockMvc.perform(patch("/point/{id}/charge", id)
+                        .contentType(PointBinaryHttpMessageConverter.MEDIA_TYPE)
+                        .accept(PointBinaryHttpMessageConverter.MEDIA_TYPE)
+                        .content(PointBinaryCodec.encodeAmount(10L)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PointBinaryHttpMessageConverter.MEDIA_TYPE));
+
+        MvcResult result = mockMvc.perform(get("/point/{id}", id)
+                        .accept(PointBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        UserPoint userPoint = PointBinaryCodec.decodeUserPoint(result.getResponse().getContentAsByteArray());
+        assertEquals(id, userPoint.id());
+    }
+
+    @Test
+    void 변경이_없으면_ETag_로_304_응답하고_충전_후에는_200_응답() throws Exception {
+        final long id = USER_ID;
+
+        String etag = mockMvc.perform(get("/point/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/point/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        pointService.charge(id, 10L);
+
+        mockMvc.perform(get("/point/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    // Accept 에 바이너리가 포함되어 있어도 q=0 이면 JSON 으로 응답하므로 JSON 표현의 ETag 를 사용해야 합니다.
+    @Test
+    void ETag_는_Accept_문자열이_아닌_협상된_응답_형식을_따른다() throws Exception {
+        final long id = USER_ID;
+        final String binary = PointBinaryHttpMessageConverter.MEDIA_TYPE_VALUE;
+
+        String jsonEtag = mockMvc.perform(get("/point/{id}", id).accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String binaryEtag = mockMvc.perform(get("/point/{id}", id).accept(binary))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/point/{id}", id)
+                        .header(HttpHeaders.ACCEPT, "application/json;q=1, " + binary + ";q=0"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, jsonEtag));
+        mockMvc.perform(get("/point/{id}", id)
+                        .header(HttpHeaders.ACCEPT, "application/json;q=0.5, " + binary))
+                .andExpect(header().string(HttpHeaders.ETAG, binaryEtag));
+    }
+
+    @Test
+    void 잘못된_기간_조회는_ETag_가_일치해도_400_응답() throws Exception {
+        final long id = USER_ID;
+
+        String etag = mockMvc.perform(get("/point/{id}/histories", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/point/{id}/histories", id)
+                        .param("from", "200")
+                        .param("to", "100")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_TIME_RANGE"));
+    }
+
+    @Test
+    void 전체_포인트_내역을_NDJSON_으로_내보내기_성공() throws Exception {
+        MvcResult started = mockMvc.perform(get("/point/export/histories"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PointExportController.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.contains("\"userId\":" + USER_ID));
+    }
+
+    @Test
+    void Accept_Encoding_이_gzip_이면_압축하여_내보내기_성공() throws Exception {
+        MvcResult started = mockMvc.perform(get("/point/export/histories").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
 
+        byte[] compressed = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String body = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(body.contains("\"userId\":" + USER_ID));
+        }
+    }
+
+    // 마지막으로 받은 내역 id 로 이어받으면, 그 이후에 기록된 내역만 빠짐없이 받아야 합니다.
+    @Test
+    void 마지막으로_받은_내역_id_로_이어받기_성공() throws Exception {
+        List<Long> exported = exportHistoryIds(0L);
+        long lastId = exported.get(exported.size() - 1);
+
+        pointService.charge(USER_ID, 10L);
+        pointService.use(USER_ID, 10L);
+
+        List<Long> resumed = exportHistoryIds(lastId);
+        assertEquals(List.of(lastId + 1, lastId + 2), resumed);
+    }
+
+    @Test
+    void 전체_유저_포인트를_CSV_로_내보내기_성공() throws Exception {
+        MvcResult started = mockMvc.perform(get("/point/export/balances").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.startsWith("id,point,updateMillis\n"));
+        assertTrue(body.contains("\n" + USER_ID + ","));
+    }
+
+    @Test
+    void 잔액보다_많이_사용하면_409_와_실패_코드로_응답() throws Exception {
+        mockMvc.perform(patch("/point/{id}/use", USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(1_000_000L)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("INSUFFICIENT_BALANCE"))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
+    @Test
+    void 최대_잔액을_넘겨_충전하면_409_와_실패_코드로_응답() throws Exception {
+        mockMvc.perform(patch("/point/{id}/charge", USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(1_000_000L)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("EXCEEDED_MAX_BALANCE"));
+    }
+
+    @Test
+    void 다른_유저에게_포인트_선물_성공() throws Exception {
+        final long fromPoint = pointService.point(USER_ID).point();
+        final long toPoint = pointService.point(OTHER_USER_ID).point();
+
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferRequest(USER_ID, OTHER_USER_ID, 10L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from.id").value(USER_ID))
+                .andExpect(jsonPath("$.from.point").value(fromPoint - 10L))
+                .andExpect(jsonPath("$.to.id").value(OTHER_USER_ID))
+                .andExpect(jsonPath("$.to.point").value(toPoint + 10L));
+    }
+
+    // 잔액이 부족한 선물은 409 로 거절되고, 두 유저의 잔액 모두 변경되지 않아야 합니다.
+    @Test
+    void 잔액보다_많이_선물하면_409_로_거절되고_잔액은_변하지_않는다() throws Exception {
+        final long fromPoint = pointService.point(USER_ID).point();
+        final long toPoint = pointService.point(OTHER_USER_ID).point();
+
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferRequest(USER_ID, OTHER_USER_ID, fromPoint + 1))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("INSUFFICIENT_BALANCE"));
+
+        assertEquals(fromPoint, pointService.point(USER_ID).point());
+        assertEquals(toPoint, pointService.point(OTHER_USER_ID).point());
+    }
+
+    // 바이너리 클라이언트의 거절된 요청도 JSON 에러 응답을 받아야 합니다. (500 이 아닌 409)
+    @Test
+    void 바이너리_Accept_로_최대_잔액을_넘겨_충전하면_409_JSON_으로_응답() throws Exception {
+        mockMvc.perform(patch("/point/{id}/charge", USER_ID)
+                        .contentType(PointBinaryHttpMessageConverter.MEDIA_TYPE)
+                        .accept(PointBinaryHttpMessageConverter.MEDIA_TYPE)
+                        .content(PointBinaryCodec.encodeAmount(1_000_000L)))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("EXCEEDED_MAX_BALANCE"));
+    }
+
+    @Test
+    void 잘못된_유저_ID_로_조회하면_400_과_실패_코드로_응답() throws Exception {
+        mockMvc.perform(get("/point/{id}", -1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_USER_ID"))
+                .andExpect(jsonPath("$.message").value("Invalid user ID: -1"));
+    }
+
+    private List<Long> exportHistoryIds(long afterId) throws Exception {
+        MvcResult started = mockMvc.perform(get("/point/export/histories").param("afterId", String.valueOf(afterId)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        return Arrays.stream(body.split("\n"))
+                .filter(line -> !line.isBlank())
+                .map(this::readId)
+                .toList();
+    }
+
+    private long readId(String line) {
+        try {
+            return objectMapper.readTree(line).get("id").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
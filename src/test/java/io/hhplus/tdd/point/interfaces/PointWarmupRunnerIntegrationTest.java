@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.interfaces;
+
+import io.hhplus.tdd.point.domain.PointService;
+import io.hhplus.tdd.point.monitoring.SlowRequestRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 기동된 서버로 예열 요청을 보낸 뒤에도, 예열 유저의 잔액/내역과 전체 내역이 기록되지 않는지 확인합니다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "point.warmup.enabled=true",
+                "point.warmup.iterations=1",
+                "point.warmup.user-id=" + PointWarmupRunnerIntegrationTest.WARMUP_USER_ID,
+                // 예열 요청이 실제 MVC 경로를 거쳤는지 SlowRequestRecorder 로 확인합니다.
+                "point.timing.sample-rate=1.0"
+        }
+)
+class PointWarmupRunnerIntegrationTest {
+
+    static final long WARMUP_USER_ID = 424_242L;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private SlowRequestRecorder slowRequestRecorder;
+
+    @Test
+    void 예열_요청은_잔액과_내역을_기록하지_않는다() {
+        List<String> requests = slowRequestRecorder.slowest(10).stream().map(SlowRequestRecorder.Entry::request).toList();
+        assertTrue(requests.contains("GET /point/" + WARMUP_USER_ID));
+        assertTrue(requests.contains("PATCH /point/" + WARMUP_USER_ID + "/use"));
+
+        assertEquals(0L, pointService.point(WARMUP_USER_ID).point());
+        assertEquals(0L, pointService.version(WARMUP_USER_ID));
+        assertTrue(pointService.history(WARMUP_USER_ID).isEmpty());
+        assertEquals(0L, pointService.exportHistories(0L).count());
+    }
+}
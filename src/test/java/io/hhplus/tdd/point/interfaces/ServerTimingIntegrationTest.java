@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.interfaces;
+
+import io.hhplus.tdd.point.monitoring.PointTiming;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 모든 요청을 샘플링하도록 설정하고, 실제 MVC 경로에서 Server-Timing 헤더가 기록되는지 확인합니다.
+ */
+@SpringBootTest(properties = "point.timing.sample-rate=1.0")
+@AutoConfigureMockMvc
+class ServerTimingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        PointTiming.clear();
+    }
+
+    @Test
+    void 샘플링된_요청은_Server_Timing_헤더를_응답한다() throws Exception {
+        mockMvc.perform(get("/point/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTimingResponseAdvice.SERVER_TIMING, containsString("select;dur=")))
+                .andExpect(header().string(ServerTimingResponseAdvice.SERVER_TIMING, containsString("total;dur=")));
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.interfaces;
+
+import io.hhplus.tdd.point.monitoring.PointTiming;
+import io.hhplus.tdd.point.monitoring.SlowRequestRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ServerTimingInterceptorTest {
+
+    private final SlowRequestRecorder slowRequestRecorder = new SlowRequestRecorder(8);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private ServerTimingInterceptor interceptor;
+
+    @AfterEach
+    void tearDown() {
+        PointTiming.clear();
+        interceptor.destroy();
+    }
+
+    // 비동기 요청은 첫 dispatch 에서 afterCompletion 이 호출되지 않으므로, 비동기 처리 시작 시 측정을 종료해야 합니다.
+    @Test
+    void 비동기_처리가_시작되면_측정을_종료하고_기록한다() {
+        interceptor = new ServerTimingInterceptor(1.0, slowRequestRecorder);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/point/export/histories");
+
+        interceptor.preHandle(request, response, null);
+        assertNotNull(PointTiming.current());
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        assertNull(PointTiming.current());
+        assertEquals("GET /point/export/histories", slowRequestRecorder.slowest(1).get(0).request());
+    }
+
+    // 스레드에 남아있던 측정이 샘플링되지 않은 다음 요청에 섞이면 안 됩니다.
+    @Test
+    void 샘플링되지_않은_요청은_이전_요청의_측정을_이어받지_않는다() {
+        interceptor = new ServerTimingInterceptor(Double.MIN_VALUE, slowRequestRecorder);
+        PointTiming.begin("GET /point/export/histories");
+
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/point/1"), response, null);
+
+        assertNull(PointTiming.current());
+        interceptor.afterCompletion(new MockHttpServletRequest("GET", "/point/1"), response, null, null);
+        assertEquals(0, slowRequestRecorder.slowest(1).size());
+    }
+
+    // 샘플링하는 컨텍스트가 닫히면 같은 JVM 에 측정이 켜진 채로 남지 않아야 합니다.
+    @Test
+    void 컨텍스트가_닫히면_측정을_끈다() {
+        interceptor = new ServerTimingInterceptor(1.0, slowRequestRecorder);
+        PointTiming.begin("GET /point/1");
+        assertNotNull(PointTiming.current());
+
+        interceptor.destroy();
+        interceptor = new ServerTimingInterceptor(0.0, slowRequestRecorder);
+
+        assertNull(PointTiming.current());
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 기본 설정에서는 정합성 검사를 조회만 할 수 있고, 잔액 재기록은 노출되지 않는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PointReconciliationEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void 기본_설정에서는_정합성_검사_조회만_노출된다() throws Exception {
+        mockMvc.perform(get("/actuator/pointreconciliation"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rebuilt").value(false));
+
+        mockMvc.perform(post("/actuator/pointreconciliation"))
+                .andExpect(status().isMethodNotAllowed());
+        mockMvc.perform(post("/actuator/pointreconciliationrebuild"))
+                .andExpect(status().isNotFound());
+        assertEquals(0, applicationContext.getBeanNamesForType(PointReconciliationRebuildEndpoint.class).length);
+    }
+}
@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.monitoring;
+
+import io.hhplus.tdd.point.monitoring.PointTiming.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        PointTiming.end();
+    }
+
+    @Test
+    void 샘플링이_꺼져있으면_측정하지_않는다() {
+        PointTiming.begin("GET /point/1");
+
+        assertEquals(0L, PointTiming.start());
+        assertNull(PointTiming.current());
+    }
+
+    @Test
+    void 샘플링된_요청은_구간별_소요_시간을_Server_Timing_형식으로_기록한다() throws InterruptedException {
+        PointTiming.register();
+        PointTiming timing;
+        try {
+            PointTiming.begin("PATCH /point/1/charge");
+
+            long started = PointTiming.start();
+            Thread.sleep(5);
+            PointTiming.stop(Phase.SELECT, started);
+
+            timing = PointTiming.end();
+        } finally {
+            PointTiming.unregister();
+        }
+        assertTrue(timing.phaseMillis().get("select") >= 5.0);
+        assertTrue(timing.toServerTiming().startsWith("lock;dur=0.0, select;dur="));
+        assertTrue(timing.toServerTiming().contains("total;dur="));
+    }
+
+    @Test
+    void 링_버퍼는_최근_요청만_보관하고_느린_순으로_반환한다() throws InterruptedException {
+        SlowRequestRecorder recorder = new SlowRequestRecorder(2);
+
+        recorder.record(PointTiming.begin("first"));
+        PointTiming slow = PointTiming.begin("slow");
+        Thread.sleep(5);
+        recorder.record(slow);
+        recorder.record(PointTiming.begin("fast"));
+
+        List<SlowRequestRecorder.Entry> slowest = recorder.slowest(10);
+        assertEquals(2, slowest.size());
+        assertEquals("slow", slowest.get(0).request());
+        assertEquals("fast", slowest.get(1).request());
+    }
+
+    // 테스트 컨텍스트처럼 샘플링 설정이 다른 인터셉터가 함께 떠 있어도, 나중에 생성된 쪽이 측정을 끄지 않습니다.
+    @Test
+    void 마지막_등록이_해제될_때만_측정을_끈다() {
+        PointTiming.register();
+        PointTiming.register();
+        try {
+            PointTiming.begin("GET /point/1");
+            PointTiming.unregister();
+
+            assertTrue(PointTiming.start() > 0L);
+        } finally {
+            PointTiming.unregister();
+        }
+        assertEquals(0L, PointTiming.start());
+    }
+}